@@ -1,5 +1,6 @@
 package com.UniSim.game.Buildings;
 
+import com.UniSim.game.GameAssets;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -11,6 +12,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
  */
 public abstract class Building {
 
+    // How far from a lake, in world units, a building still gets part of its lake bonus
+    public static final float LAKE_RANGE = 12;
+
     protected String name;
     protected float cost;
     protected Texture texture;
@@ -37,12 +41,25 @@ public abstract class Building {
         this.width = width;
         this.height = height;
         try {
-            this.texture = new Texture(picture);
+            this.texture = GameAssets.texture(picture);
         }catch (Exception e) {
             Gdx.app.error("BuildingList", "Error loading texture: " + picture, e);
         }
     }
 
+    /**
+     * Works out the lake bonus for placing the building a given distance from the nearest lake.
+     * The full bonus is granted on the shore, falling off evenly to nothing at {@link #LAKE_RANGE}.
+     * @param distance Distance from the edge of the building to the nearest water, in world units.
+     * @return The satisfaction bonus granted on every satisfaction update.
+     */
+    public float getLakeBonus(float distance) {
+        if (distance >= LAKE_RANGE) {
+            return 0;
+        }
+        return lakeBonus * (1 - distance / LAKE_RANGE);
+    }
+
     /**
      * Abstract method to get the type of the building. Each building type provideS its own
      * implementation of this method.
@@ -1,22 +1,24 @@
 package com.UniSim.game.Buildings;
 
 import java.util.ArrayList;
-import java.util.Objects;
 
 import com.UniSim.game.Buildings.Types.Academic;
 import com.UniSim.game.Buildings.Types.Accommodation;
 import com.UniSim.game.Buildings.Types.Food;
 import com.UniSim.game.Buildings.Types.Recreational;
 import com.UniSim.game.Buildings.Types.Workplace;
+import com.UniSim.game.GameAssets;
+import com.UniSim.game.Map.MapSchema;
+import com.UniSim.game.Map.WaterDistance;
+import com.UniSim.game.Pathfinding.OccupancyGrid;
+import com.UniSim.game.Replay.InputCommand;
+import com.UniSim.game.Replay.InputSource;
 import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.Simulation.SimulationClock;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -28,6 +30,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.math.Vector2;
 
@@ -58,13 +61,40 @@ public class BuildingManager {
 
     private Building placingBuilding;
 
-    private TiledMap tiledMap;
+    private MapSchema mapSchema;
+    private WaterDistance waterDistance;
+    private OccupancyGrid occupancyGrid;
+    private SimulationClock clock;
+    private InputSource input;
+    private final Rectangle overlapArea = new Rectangle();
+
+    // Shows the lake bonus next to the building being placed, updated only when the snapped position changes
+    private Label bonusLabel;
+    private final Vector2 bonusLabelPosition = new Vector2();
+    private Building bonusBuilding;
+    private float bonusX = Float.NaN;
+    private float bonusY = Float.NaN;
+
+    // Whether the building being placed fits where it is, worked out again only when it moves or the grid changes
+    private boolean placementValid;
+    private Building validBuilding;
+    private float validX = Float.NaN;
+    private float validY = Float.NaN;
+    private int validVersion = -1;
 
     private GameScreen gameScreen;
     private TextButton interactButton;
     private boolean isInteractable;
 
-    private Building buildingPressed;
+    private boolean drawPlacedBuildings;
+    private final Array<PlacementListener> placementListeners;
+
+    /**
+     * Listener notified whenever a new building is placed on the map.
+     */
+    public interface PlacementListener {
+        void buildingPlaced(Placed building);
+    }
 
     /**
      * Constructor initializes the BuildingManager with required game objects.
@@ -72,10 +102,15 @@ public class BuildingManager {
      * @param stage The stage for UI elements.
      * @param skin The skin for UI elements.
      * @param world The physics world for Box2D interactions.
-     * @param tiledMap The map containing the game world.
+     * @param mapSchema The collision and sensor areas of the map, which buildings cannot be placed on.
+     * @param waterDistance The distance from every part of the map to water, for lake bonuses.
+     * @param occupancyGrid What covers each cell of the map, kept up to date as buildings are placed.
+     * @param clock The simulation clock placed buildings' timers run on.
+     * @param input Where placement clicks are submitted, to take effect on the next tick.
      * @param gameScreen The screen managing the gameplay.
      */
-    public BuildingManager(Stage stage, Skin skin, World world, TiledMap tiledMap, GameScreen gameScreen) {
+    public BuildingManager(Stage stage, Skin skin, World world, MapSchema mapSchema, WaterDistance waterDistance,
+                           OccupancyGrid occupancyGrid, SimulationClock clock, InputSource input, GameScreen gameScreen) {
         accommodations = new ArrayList<Accommodation>();
         academics = new ArrayList<Academic>();
         foods = new ArrayList<Food>();
@@ -87,42 +122,61 @@ public class BuildingManager {
         this.stage = stage;
         this.skin = skin;
         this.world = world;
-        this.tiledMap = tiledMap;
+        this.mapSchema = mapSchema;
+        this.waterDistance = waterDistance;
+        this.occupancyGrid = occupancyGrid;
+        this.clock = clock;
+        this.input = input;
         this.isWindowOpen = false;
         this.placingBuilding = null;
+        this.drawPlacedBuildings = true;
+        this.placementListeners = new Array<>();
 
         makeBuildingTypes();
+
+        bonusLabel = new Label("", skin);
+        bonusLabel.setVisible(false);
+        stage.addActor(bonusLabel);
     }
 
     /**
-     * Updates the interactions with buildings, checking proximity to the player and returning a building if the player is near it.
+     * Updates the interact buttons of the buildings, showing those the player is near.
      * @param playerPosition The player's current position in the world.
      * @param camera The camera to calculate the view.
-     * @param deltaTime Time passed since the last frame.
-     * @return The building the player is interacting with, or null if no interaction.
+     * @return The index of the building whose interact button was pressed, or -1 if none was.
      */
-    public Building updateBuildingInteractions(Vector2 playerPosition, OrthographicCamera camera, float deltaTime) {
-        buildingPressed = null;
-        for (Placed building : placed) {
-            buildingPressed = building.updateInteraction(playerPosition, camera, deltaTime);
-            if (!Objects.equals(buildingPressed, null)){
-                break;
+    public int updateBuildingInteractions(Vector2 playerPosition, OrthographicCamera camera) {
+        int pressed = -1;
+        for (int i = 0; i < placed.size(); i++) {
+            if (placed.get(i).updateInteraction(playerPosition, camera) && pressed < 0) {
+                pressed = i;
             }
-
         }
+        return pressed;
+    }
 
-        return buildingPressed;
+    /**
+     * Interacts with a placed building, if the player is close enough and its cooldown has ended.
+     * @param index The index of the building, in the order buildings were placed.
+     * @param playerPosition The player's current position in the world.
+     * @return The building the player is interacting with, or null if no interaction.
+     */
+    public Building interact(int index, Vector2 playerPosition) {
+        if (index < 0 || index >= placed.size()) {
+            return null;
+        }
+        return placed.get(index).interact(playerPosition);
     }
 
     /**
      * Creates instances of various building types and adds them to respective lists.
      */
     private void makeBuildingTypes() {
-        accommodations.add(new Accommodation("David Kato", 8000f, "accommodation_3.png", 4f, 64f, 64f, 10));
-        foods.add(new Food("Piazza Restaurant", 5000f, "accommodation_3.png", 2f, 128f,128f, 200, 2, 2));
-        recreationals.add(new Recreational("Glasshouse Bar", 5000f, "accommodation_3.png", 2f, 128f,128f, 500, 5, 5));
-        academics.add(new Academic("Library", 1000f, "lectureroom.png", 1.5f, 96f, 96f, 5, 10));
-        workplaces.add(new Workplace("Greggs", 5000f, "accommodation_3.png", 1.5f, 80f, 80f, 10, 1000));
+        accommodations.add(new Accommodation("David Kato", 8000f, GameAssets.ACCOMMODATION_TEXTURE, 4f, 64f, 64f, 10));
+        foods.add(new Food("Piazza Restaurant", 5000f, GameAssets.ACCOMMODATION_TEXTURE, 2f, 128f,128f, 200, 2, 2));
+        recreationals.add(new Recreational("Glasshouse Bar", 5000f, GameAssets.ACCOMMODATION_TEXTURE, 2f, 128f,128f, 500, 5, 5));
+        academics.add(new Academic("Library", 1000f, GameAssets.LECTURE_ROOM_TEXTURE, 1.5f, 96f, 96f, 5, 10));
+        workplaces.add(new Workplace("Greggs", 5000f, GameAssets.ACCOMMODATION_TEXTURE, 1.5f, 80f, 80f, 10, 1000));
     }
 
     /**
@@ -380,10 +434,16 @@ public class BuildingManager {
             camera.unproject(mousePosition , viewport.getScreenX(), viewport.getScreenY(),
                     viewport.getScreenWidth() , viewport.getScreenHeight());
 
-            batch.begin();
-            batch.setColor(1, 1, 1, 0.5f);  // Semi-transparent
-
             Vector3 snappedPosition = snapToGrid(mousePosition.x, mousePosition.y);
+            boolean valid = isPlacementValid(placingBuilding, snappedPosition.x, snappedPosition.y);
+
+            batch.begin();
+            // Semi-transparent, tinted green where the building fits and red where it does not
+            if (valid) {
+                batch.setColor(0.5f, 1, 0.5f, 0.5f);
+            } else {
+                batch.setColor(1, 0.4f, 0.4f, 0.5f);
+            }
 
             // Draw the building using the custom width and height
             batch.draw(placingBuilding.texture, snappedPosition.x - placingBuilding.width / 2 / PPM,
@@ -393,86 +453,151 @@ public class BuildingManager {
             batch.setColor(1, 1, 1, 1);  // Reset to full opacity
             batch.end();
 
+            updateBonusLabel(snappedPosition.x, snappedPosition.y);
+
             if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
-                if (!checkOverlap(snappedPosition.x, snappedPosition.y)) {
-                    if(canAffordBuilding()) {
-                        placed.add(new Placed(placingBuilding.name, snappedPosition.x, snappedPosition.y, placingBuilding.width / PPM, placingBuilding.height / PPM, stage));
-                        createBuildingBody(snappedPosition.x, snappedPosition.y, placingBuilding.width / PPM, placingBuilding.height / PPM); // Create Box2D body
-                        gameScreen.hud.hideMessage(); // Hide error message after successful placement
-                        showBuildingSelectionWindow();
-                        gameScreen.hud.stats.takeOffBuildingCost(placingBuilding.cost);
-                        gameScreen.hud.stats.incrementBuildingCounter();
-                    }
-                    else {
-
-                        gameScreen.popUp("Cannot Afford Building", 4);
-                        showBuildingSelectionWindow();
-                    }
+                if (valid) {
+                    // The building is placed on the next tick, so placing it can be recorded and replayed
+                    input.submit(InputCommand.place(combineBuildings().indexOf(placingBuilding),
+                        snappedPosition.x, snappedPosition.y));
                     isPlacingBuilding = false;
+                    bonusLabel.setVisible(false);
                 } else {
 
                     gameScreen.popUp("Cannot place building here!", 4);
                 }
             }
+        } else {
+            bonusLabel.setVisible(false);
+        }
+
+        if (drawPlacedBuildings) {
+            batch.begin();
+            for (Placed building : placed) {
+                building.drawBuilding(batch);
+            }
+            batch.end();
+        }
+    }
+
+    /**
+     * Places a building, if it fits and the player can afford it. Run on the tick the placement click takes effect.
+     * @param option The index of the building in {@link #combineBuildings()}.
+     * @param x The x-coordinate of the building's centre, snapped to the grid.
+     * @param y The y-coordinate of the building's centre, snapped to the grid.
+     */
+    public void place(int option, float x, float y) {
+        Building building = combineBuildings().get(option);
+        // Something may have been placed there since the click
+        if (checkOverlap(building, x, y)) {
+            gameScreen.popUp("Cannot place building here!", 4);
+            return;
+        }
+        if (!canAffordBuilding(building)) {
+            gameScreen.popUp("Cannot Afford Building", 4);
+            showBuildingSelectionWindow();
+            return;
+        }
+        Placed newBuilding = new Placed(building.name, x, y, building.width / PPM, building.height / PPM, stage, clock);
+        placed.add(newBuilding);
+        createBuildingBody(x, y, building.width / PPM, building.height / PPM); // Create Box2D body
+        gameScreen.hud.hideMessage(); // Hide error message after successful placement
+        showBuildingSelectionWindow();
+        gameScreen.hud.stats.takeOffBuildingCost(building.cost);
+        gameScreen.hud.stats.incrementBuildingCounter();
+        gameScreen.hud.stats.addSatisfactionBonus(getLakeBonus(building, x, y));
+        for (PlacementListener listener : placementListeners) {
+            listener.buildingPlaced(newBuilding);
         }
+    }
 
-        batch.begin();
-        for (Placed building : placed) {
-            building.drawBuilding(batch);
+    /**
+     * Works out the lake bonus a building would get at a position, from the distance between the edge of
+     * its footprint and the nearest water.
+     * @param building The building to check.
+     * @param x The x-coordinate of the building's centre.
+     * @param y The y-coordinate of the building's centre.
+     * @return The satisfaction bonus the building would add to every satisfaction update.
+     */
+    public float getLakeBonus(Building building, float x, float y) {
+        float width = building.width / PPM;
+        float height = building.height / PPM;
+        return building.getLakeBonus(waterDistance.getDistance(x - width / 2, y - height / 2, width, height));
+    }
+
+    /**
+     * Shows the lake bonus of the building being placed beside the mouse. The text is only rebuilt
+     * when the building is moved to another grid point.
+     * @param x The x-coordinate of the building's centre, snapped to the grid.
+     * @param y The y-coordinate of the building's centre, snapped to the grid.
+     */
+    private void updateBonusLabel(float x, float y) {
+        if (placingBuilding != bonusBuilding || x != bonusX || y != bonusY) {
+            bonusBuilding = placingBuilding;
+            bonusX = x;
+            bonusY = y;
+            float bonus = getLakeBonus(placingBuilding, x, y);
+            bonusLabel.setText(bonus > 0 ? String.format("Lake bonus: +%.1f satisfaction", bonus) : "No lake bonus");
+            bonusLabel.pack();
         }
-        batch.end();
+        stage.screenToStageCoordinates(bonusLabelPosition.set(Gdx.input.getX(), Gdx.input.getY()));
+        bonusLabel.setPosition(bonusLabelPosition.x + 16, bonusLabelPosition.y + 16);
+        bonusLabel.setVisible(true);
     }
 
     /**
-     * Checks if the player can afford the building being placed.
+     * Checks if the player can afford a building.
+     * @param building The building to check.
      * @return True if the player can afford the building, false otherwise.
      */
-    private boolean canAffordBuilding() {
-        return !(placingBuilding.cost > gameScreen.hud.stats.getCurrency());
+    private boolean canAffordBuilding(Building building) {
+        return !(building.cost > gameScreen.hud.stats.getCurrency());
     }
 
     /**
-     * Checks if the new building overlaps with any existing buildings or map objects.
+     * Checks whether a building fits at a position, for the placement preview. The answer is kept
+     * until the building is moved to another grid point or something is placed. The occupancy grid
+     * answers most checks: if every cell under the building is free, nothing can overlap it. Only
+     * when some cell is covered is the exact {@link #checkOverlap} needed, since the building may just
+     * touch the edge of what covers it.
+     * @param building The building to check.
+     * @param x The x-coordinate of the building's centre, snapped to the grid.
+     * @param y The y-coordinate of the building's centre, snapped to the grid.
+     * @return True if the building can be placed there.
+     */
+    private boolean isPlacementValid(Building building, float x, float y) {
+        int version = occupancyGrid.getVersion();
+        if (building != validBuilding || x != validX || y != validY || version != validVersion) {
+            validBuilding = building;
+            validX = x;
+            validY = y;
+            validVersion = version;
+            float width = building.width / PPM;
+            float height = building.height / PPM;
+            overlapArea.set(x - width / 2, y - height / 2, width, height);
+            placementValid = occupancyGrid.isFree(overlapArea) || !checkOverlap(building, x, y);
+        }
+        return placementValid;
+    }
+
+    /**
+     * Checks if a new building would overlap with any existing buildings or map objects.
+     * @param building The building to check.
      * @param x The x-coordinate to check for overlap.
      * @param y The y-coordinate to check for overlap.
      * @return True if there is overlap, false otherwise.
      */
-    private boolean checkOverlap(float x, float y) {
-        boolean overlap = false;
-        Placed newBuildingPla = new Placed (placingBuilding.name, x, y, placingBuilding.width / PPM, placingBuilding.height / PPM, stage);
-        for (Placed building : placed) {
-            if (newBuildingPla.overlaps(building)) {
-                overlap =  true; // Overlap detected
-                break;
+    private boolean checkOverlap(Building building, float x, float y) {
+        float width = building.width / PPM;
+        float height = building.height / PPM;
+        overlapArea.set(x - width / 2, y - height / 2, width, height);
+
+        for (Placed other : placed) {
+            if (other.overlaps(overlapArea)) {
+                return true; // Overlap detected
             }
         }
-
-        for (MapLayer layer : tiledMap.getLayers()) {
-            if (layer.getObjects().getCount() > 0) { // Add any other relevant layer names here
-                for (MapObject object : layer.getObjects().getByType(RectangleMapObject.class)) {
-                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
-
-                    // Define object rectangle for overlap check
-                    Placed temp = new Placed(
-                        "Borders",
-                        (rect.getX() + (rect.getWidth() / 2)) / PPM,
-                        (rect.getY() + (rect.getHeight() / 2))  / PPM,
-                        rect.getWidth()  / PPM,
-                        rect.getHeight()  / PPM,
-                        stage
-                    );
-
-                    // Check for overlap
-                    if (newBuildingPla.overlaps(temp)) {
-                        overlap = true; // Overlap detected
-                        break;          // Stop further checks within this layer
-                    }
-                }
-            }
-            if (overlap) break; // Stop checking other layers if overlap is detected
-        }
-
-        return overlap;
+        return mapSchema.overlaps(overlapArea);
     }
 
     /**
@@ -533,6 +658,22 @@ public class BuildingManager {
         return isWindowOpen;
     }
 
+    /**
+     * Registers a listener to be told about every building placed from now on.
+     * @param listener The listener to add.
+     */
+    public void addPlacementListener(PlacementListener listener) {
+        placementListeners.add(listener);
+    }
+
+    /**
+     * Sets whether placed buildings are drawn, so they can be skipped while something else already shows them.
+     * @param drawPlacedBuildings True to draw the placed buildings.
+     */
+    public void setDrawPlacedBuildings(boolean drawPlacedBuildings) {
+        this.drawPlacedBuildings = drawPlacedBuildings;
+    }
+
     public void setIsPlacingBuilding(boolean isPlacingBuilding) {
         this.isPlacingBuilding = isPlacingBuilding;
     }
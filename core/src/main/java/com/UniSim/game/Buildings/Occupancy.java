@@ -0,0 +1,88 @@
+package com.UniSim.game.Buildings;
+
+/**
+ * Occupancy tracks who is inside a placed building. A building holds a limited number of visitors
+ * at once; anyone arriving while it is full waits in a queue at the door and is let in, in order of
+ * arrival, as others leave. Visitors are identified by number, such as a student's index.
+ */
+public class Occupancy {
+
+    // Visitors a building holds per square world unit of its area
+    public static final float VISITORS_PER_UNIT = 2;
+
+    private final int capacity;
+    private int visitors;
+    // Ring buffer of waiting visitors
+    private int[] waiting;
+    private int head;
+    private int waitingCount;
+
+    public Occupancy(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.waiting = new int[8];
+    }
+
+    /**
+     * @param width The width of the building in world units
+     * @param height The height of the building in world units
+     * @return The capacity of a building of that size, at least one
+     */
+    public static int capacityFor(float width, float height) {
+        return Math.max(1, (int) (width * height * VISITORS_PER_UNIT));
+    }
+
+    /**
+     * Lets a visitor in if there is room, otherwise adds them to the back of the queue.
+     *
+     * @return true if the visitor went in, false if they are waiting
+     */
+    public boolean enter(int visitor) {
+        if (visitors < capacity) {
+            visitors++;
+            return true;
+        }
+        if (waitingCount == waiting.length) {
+            int[] grown = new int[waiting.length * 2];
+            for (int i = 0; i < waitingCount; i++) {
+                grown[i] = waiting[(head + i) % waiting.length];
+            }
+            waiting = grown;
+            head = 0;
+        }
+        waiting[(head + waitingCount) % waiting.length] = visitor;
+        waitingCount++;
+        return false;
+    }
+
+    /**
+     * Lets a visitor out, and the first one waiting in in their place.
+     *
+     * @return The visitor let in from the queue, or -1 if nobody was waiting
+     */
+    public int leave() {
+        if (waitingCount == 0) {
+            visitors = Math.max(0, visitors - 1);
+            return -1;
+        }
+        int visitor = waiting[head];
+        head = (head + 1) % waiting.length;
+        waitingCount--;
+        return visitor;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getVisitors() {
+        return visitors;
+    }
+
+    public int getWaiting() {
+        return waitingCount;
+    }
+
+    public boolean isFull() {
+        return visitors >= capacity;
+    }
+}
@@ -1,6 +1,8 @@
 package com.UniSim.game.Buildings;
 
 import com.UniSim.game.Hud;
+import com.UniSim.game.Simulation.ScheduledTask;
+import com.UniSim.game.Simulation.SimulationClock;
 import java.util.HashMap;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -28,6 +30,9 @@ import java.util.ArrayList;
  */
 public class Placed {
 
+    // Seconds the player has to wait between interactions with a building
+    public static final float COOLDOWN_TIME = 10;
+
     protected String name;
     protected Vector2 position;
     protected Vector2 cornerPosition;
@@ -40,7 +45,9 @@ public class Placed {
     private String type;
 
     private boolean isPressed;
-    private float cooldownTimer;
+    private final SimulationClock clock;
+    private final ScheduledTask cooldown; // Scheduled while the player has to wait to interact again
+    private final Occupancy occupancy; // Students inside and queueing at the door
 
     String buttonText;
 
@@ -55,8 +62,9 @@ public class Placed {
      * @param width     The width of the building.
      * @param height    The height of the building.
      * @param stage     The stage where UI elements (like buttons) are displayed.
+     * @param clock     The simulation clock the interaction cooldown runs on.
      */
-    public Placed(String name, float x, float y, float width, float height, Stage stage) {
+    public Placed(String name, float x, float y, float width, float height, Stage stage, SimulationClock clock) {
         this.name = name;
         this.position = new Vector2(x, y);
         this.width = width;
@@ -65,7 +73,14 @@ public class Placed {
         this.isInteractable = isInteractable;
         this.stage = stage;
         this.isPressed = false;
-        this.cooldownTimer = 0;
+        this.clock = clock;
+        this.cooldown = new ScheduledTask() {
+            @Override
+            protected void run() {
+                interactButton.setText(buttonText);
+            }
+        };
+        this.occupancy = new Occupancy(Occupancy.capacityFor(width, height));
 
 
 
@@ -114,12 +129,7 @@ public class Placed {
         interactButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                if(cooldownTimer<=0){
-                    isPressed = true;
-                    cooldownTimer = 10;}
-
-
-
+                isPressed = true;
             }
         });
         stage.addActor(interactButton);
@@ -131,13 +141,11 @@ public class Placed {
      *
      * @param playerPosition The position of the player in the game world.
      * @param camera         The camera used to convert world coordinates to screen coordinates.
-     * @param deltaTime      The time elapsed since the last update.
-     * @return The building object if the interaction was successful, otherwise null.
+     * @return True if the interact button was pressed since the last update.
      */
-    public Building updateInteraction(Vector2 playerPosition, OrthographicCamera camera, float deltaTime) {
+    public boolean updateInteraction(Vector2 playerPosition, OrthographicCamera camera) {
 
-        float distance = playerPosition.dst(position);
-        isInteractable = distance < ((width / 2) + 50 / PPM); // Set proximity range (adjust as needed)
+        isInteractable = isInRange(playerPosition);
         interactButton.setVisible(isInteractable);
 
         if (isInteractable) {
@@ -149,18 +157,33 @@ public class Placed {
                 screenPosition.y / stage.getViewport().getScreenHeight() * stage.getHeight());
         }
 
-        if (cooldownTimer > 0) {
-            cooldownTimer -= deltaTime;
-            interactButton.setText(String.format("Wait %.1f", Math.max(0, cooldownTimer)));
-        } else {
-            interactButton.setText(buttonText);
+        // The cooldown task puts the button text back when it ends; the countdown is only shown while visible
+        if (isInteractable && cooldown.isScheduled()) {
+            interactButton.setText(String.format("Wait %.1f", clock.getRemaining(cooldown)));
         }
 
-        if (isPressed) {
-            isPressed = false;
-            return getPlacedBuilding();
+        boolean pressed = isPressed;
+        isPressed = false;
+        return pressed;
+    }
+
+    /**
+     * Interacts with the building, if the player is close enough and the cooldown has ended, and
+     * starts the cooldown. Run on the tick the interact button press takes effect.
+     *
+     * @param playerPosition The position of the player in the game world.
+     * @return The building object if the interaction was successful, otherwise null.
+     */
+    public Building interact(Vector2 playerPosition) {
+        if (!isInRange(playerPosition) || cooldown.isScheduled()) {
+            return null;
         }
-        return null;
+        clock.schedule(cooldown, COOLDOWN_TIME);
+        return getPlacedBuilding();
+    }
+
+    private boolean isInRange(Vector2 playerPosition) {
+        return playerPosition.dst(position) < width / 2 + 50 / PPM; // Set proximity range (adjust as needed)
     }
 
     /**
@@ -185,7 +208,7 @@ public class Placed {
      *
      * @return The texture of the building.
      */
-    private Texture getTexture() {
+    public Texture getTexture() {
         ArrayList<Building> allBuildings = BuildingManager.combineBuildings();
 
         for (Building building : allBuildings) {
@@ -206,6 +229,24 @@ public class Placed {
 
     }
 
+    /**
+     * Retrieves who is inside this building and waiting to go in.
+     *
+     * @return The building's occupancy, sized to the building's area.
+     */
+    public Occupancy getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Retrieves the area covered by this building.
+     *
+     * @return A new rectangle covering the building, in world units.
+     */
+    public Rectangle getBounds() {
+        return new Rectangle(cornerPosition.x, cornerPosition.y, width, height);
+    }
+
     /**
      * Checks whether this building overlaps with another placed building.
      *
@@ -219,6 +260,28 @@ public class Placed {
             && this.cornerPosition.y + height > p.cornerPosition.y;
     }
 
+    /**
+     * Checks whether this building overlaps an area of the map.
+     *
+     * @param area The area to check, in world units.
+     * @return true if the building and the area overlap, otherwise false.
+     */
+    public boolean overlaps(Rectangle area) {
+        return this.cornerPosition.x < area.x + area.width
+            && this.cornerPosition.x + width > area.x
+            && this.cornerPosition.y < area.y + area.height
+            && this.cornerPosition.y + height > area.y;
+    }
+
+    /**
+     * Retrieves the type of this building, worked out once when it was placed.
+     *
+     * @return The type of the building (e.g., "Accommodation," "Workplace").
+     */
+    public String getBuildingType() {
+        return type;
+    }
+
     /**
      * Retrieves the type of this building (e.g., "Accommodation," "Workplace").
      *
@@ -0,0 +1,75 @@
+package com.UniSim.game.Buildings;
+
+import com.UniSim.game.Simulation.ScheduledTask;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * VisitScheduler keeps track of when visits to buildings end. Each visitor has at most one pending
+ * time at once, scheduled as a task on the simulation clock's timer wheel, so scheduling a visit
+ * and finishing it both cost O(1) however many visits are under way, and nothing is scanned per
+ * frame. Visits that have ended are queued until they are polled.
+ */
+public class VisitScheduler {
+
+    private final SimulationClock clock;
+    // One reusable task per visitor, indexed by visitor
+    private final Array<VisitTask> tasks;
+    private final IntArray due;
+    private int head;
+
+    public VisitScheduler(SimulationClock clock) {
+        this.clock = clock;
+        this.tasks = new Array<>();
+        this.due = new IntArray();
+    }
+
+    /**
+     * Schedules a visitor to be due after a delay, replacing any time already scheduled for them.
+     *
+     * @param visitor The visitor's number
+     * @param delay The seconds from now until they are due
+     */
+    public void schedule(int visitor, float delay) {
+        while (tasks.size <= visitor) {
+            tasks.add(new VisitTask(tasks.size));
+        }
+        clock.schedule(tasks.get(visitor), delay);
+    }
+
+    /**
+     * @return true if a visitor's time has come
+     */
+    public boolean hasDue() {
+        return head < due.size;
+    }
+
+    /**
+     * Removes the visitor whose time came first.
+     *
+     * @return The visitor's number
+     */
+    public int poll() {
+        int visitor = due.get(head++);
+        if (head == due.size) {
+            due.clear();
+            head = 0;
+        }
+        return visitor;
+    }
+
+    private class VisitTask extends ScheduledTask {
+
+        private final int visitor;
+
+        VisitTask(int visitor) {
+            this.visitor = visitor;
+        }
+
+        @Override
+        protected void run() {
+            due.add(visitor);
+        }
+    }
+}
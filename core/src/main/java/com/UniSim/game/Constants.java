@@ -14,9 +14,6 @@ public final class Constants
     public static final float CHARACTER_SIZE_X = 14;// Character size in pixels (50x50)
     public static final float CHARACTER_SIZE_Y = 18;
     public static final float CHARACTER_SPEED = 10;// Movement speed in pixels per second
-    // Map size (resized to 4400x2000)
-    public static final float MAP_SIZE_X = 1600 * PPM;
-    public static final float MAP_SIZE_Y = 800 * PPM;
     public static final float SCALE = 4;
 
     public static final float GRID_SIZE = 1;
@@ -0,0 +1,246 @@
+package com.UniSim.game;
+
+import com.UniSim.game.Map.ChunkedMap;
+import com.UniSim.game.Map.PackedTmxMapLoader;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * The GameAssets class owns the single AssetManager used by the whole game.
+ * Assets are queued up front by the loading screen and loaded incrementally, so starting a game
+ * does not freeze the window. Any asset requested before it has been preloaded is loaded on demand,
+ * and every screen asking for the same file shares the same instance.
+ *
+ * Textures that have a GPU-compressed copy in the compressed folder (written by the lwjgl3
+ * compressTextures Gradle task) are loaded from that copy when the GPU supports its format,
+ * falling back to the original image otherwise. Likewise, when the lwjgl3 packTextures task has
+ * packed the map tiles and font pages into atlases, maps and fonts are built from the atlas regions
+ * and the loose images are not loaded at all.
+ */
+public final class GameAssets {
+
+    public static final String MAP = "SimMap.tmx";
+    // Written by the lwjgl3 chunkMap task; when present the map is streamed from it instead of loaded whole
+    public static final String STREAMED_MAP = "chunks/SimMap";
+    public static final String CHARACTER = "character-1.png";
+    public static final String SPEECH_BUBBLE = "question.png";
+    public static final String PAUSE_ICON = "pause.png";
+    public static final String MENU_BACKGROUND = "LoadScreenBackground.png";
+    public static final String ACCOMMODATION_TEXTURE = "accommodation_3.png";
+    public static final String LECTURE_ROOM_TEXTURE = "lectureroom.png";
+    public static final String GAME_MUSIC = "music/harbor.mp3";
+    public static final String END_MUSIC = "music/Chippytoon.mp3";
+    public static final String FONT = "Font1.fnt";
+    public static final String TITLE_FONT = "titleFont.fnt";
+    public static final String MAP_ATLAS = "atlas/map.atlas";
+    public static final String FONT_ATLAS = "atlas/fonts.atlas";
+
+    private static final String[] GAME_TEXTURES = {
+        CHARACTER, SPEECH_BUBBLE, PAUSE_ICON, ACCOMMODATION_TEXTURE, LECTURE_ROOM_TEXTURE
+    };
+
+    private static final String COMPRESSED_FOLDER = "compressed/";
+    private static final String DXT1_SUFFIX = ".dxt1.ktx";
+    private static final String ETC1_SUFFIX = ".etc1.ktx";
+
+    private static AssetManager manager;
+    // Maps each texture path to the file that is actually loaded for it
+    private static final ObjectMap<String, String> texturePaths = new ObjectMap<>();
+
+    private GameAssets() {
+    }
+
+    /**
+     * Returns the shared AssetManager, creating it the first time it is needed.
+     *
+     * @return The AssetManager holding every asset of the game
+     */
+    public static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+            manager.setLoader(TiledMap.class, new PackedTmxMapLoader(new InternalFileHandleResolver(), MAP_ATLAS));
+        }
+        return manager;
+    }
+
+    /**
+     * Queues every asset the game screen needs. Assets that are already loaded or queued are skipped.
+     */
+    public static void queueGameAssets() {
+        AssetManager assets = getManager();
+        for (String texture : GAME_TEXTURES) {
+            String path = resolveTexture(texture);
+            if (!assets.contains(path, Texture.class)) {
+                loadTexture(assets, path);
+            }
+        }
+        // A streamed map only needs its skeleton up front, its chunks are read while playing.
+        // The map atlas, or the loose tile images if it has not been packed, load with the map
+        String map = ChunkedMap.exists(STREAMED_MAP)
+            ? STREAMED_MAP + "/" + ChunkedMap.SKELETON_FILE : MAP;
+        if (!assets.contains(map, TiledMap.class)) {
+            assets.load(map, TiledMap.class);
+        }
+        if (!assets.contains(GAME_MUSIC, Music.class)) {
+            assets.load(GAME_MUSIC, Music.class);
+        }
+        if (!assets.contains(END_MUSIC, Music.class)) {
+            assets.load(END_MUSIC, Music.class);
+        }
+    }
+
+    /**
+     * Loads queued assets for at most the given time.
+     *
+     * @param budgetMillis The maximum time to spend loading, in milliseconds
+     * @return true once every queued asset has been loaded
+     */
+    public static boolean update(int budgetMillis) {
+        return getManager().update(budgetMillis);
+    }
+
+    /**
+     * @return The fraction of queued assets loaded so far, between 0 and 1
+     */
+    public static float getProgress() {
+        return getManager().getProgress();
+    }
+
+    public static Texture texture(String path) {
+        String resolved = resolveTexture(path);
+        AssetManager assets = getManager();
+        if (!assets.isLoaded(resolved, Texture.class) && !assets.contains(resolved, Texture.class)) {
+            loadTexture(assets, resolved);
+        }
+        return get(resolved, Texture.class);
+    }
+
+    /**
+     * Returns the file to load for a texture: its compressed copy if one exists and the GPU
+     * supports the format, otherwise the original image.
+     *
+     * @param path The internal path of the original image
+     * @return The internal path of the file to load
+     */
+    private static String resolveTexture(String path) {
+        String resolved = texturePaths.get(path);
+        if (resolved == null) {
+            resolved = path;
+            String name = COMPRESSED_FOLDER + Gdx.files.internal(path).nameWithoutExtension();
+            if (Gdx.graphics.supportsExtension("GL_EXT_texture_compression_s3tc")
+                && Gdx.files.internal(name + DXT1_SUFFIX).exists()) {
+                resolved = name + DXT1_SUFFIX;
+            } else if (Gdx.graphics.supportsExtension("GL_OES_compressed_ETC1_RGB8_texture")
+                && Gdx.files.internal(name + ETC1_SUFFIX).exists()) {
+                resolved = name + ETC1_SUFFIX;
+            }
+            texturePaths.put(path, resolved);
+        }
+        return resolved;
+    }
+
+    private static void loadTexture(AssetManager assets, String path) {
+        if (path.endsWith(".ktx")) {
+            // Compressed copies already contain their mipmaps
+            TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+            parameter.minFilter = Texture.TextureFilter.MipMapLinearLinear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            assets.load(path, Texture.class, parameter);
+        } else {
+            assets.load(path, Texture.class);
+        }
+    }
+
+    /**
+     * Returns a loaded map. If the map atlas exists, the map's tiles are regions of it, so the whole
+     * map is drawn from one texture.
+     *
+     * @param path The internal path of the map
+     * @return The shared map instance
+     */
+    public static TiledMap map(String path) {
+        return get(path, TiledMap.class);
+    }
+
+    /**
+     * Returns a loaded texture atlas.
+     *
+     * @param path The internal path of the atlas
+     * @return The shared atlas, or null if it has not been packed
+     */
+    public static TextureAtlas atlas(String path) {
+        if (!getManager().isLoaded(path, TextureAtlas.class) && !Gdx.files.internal(path).exists()) {
+            return null;
+        }
+        return get(path, TextureAtlas.class);
+    }
+
+    /**
+     * Creates a new instance of a bitmap font. The font's pages are taken from the font atlas
+     * when they have been packed into it, otherwise the font loads its own page textures.
+     * Each call returns a separate instance, since screens scale their fonts differently.
+     *
+     * @param path The internal path of the .fnt file
+     * @return A new BitmapFont
+     */
+    public static BitmapFont font(String path) {
+        FileHandle fontFile = Gdx.files.internal(path);
+        TextureAtlas atlas = atlas(FONT_ATLAS);
+        if (atlas != null) {
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(fontFile, false);
+            Array<TextureRegion> pages = new Array<>();
+            for (String page : data.getImagePaths()) {
+                TextureRegion region = atlas.findRegion(Gdx.files.internal(page).nameWithoutExtension());
+                if (region == null) {
+                    return new BitmapFont(fontFile);
+                }
+                pages.add(region);
+            }
+            return new BitmapFont(data, pages, true);
+        }
+        return new BitmapFont(fontFile);
+    }
+
+    public static Music music(String path) {
+        return get(path, Music.class);
+    }
+
+    /**
+     * Returns a loaded asset, loading it synchronously if it was not preloaded.
+     *
+     * @param path The internal path of the asset
+     * @param type The type of the asset
+     * @return The shared asset instance
+     */
+    private static <T> T get(String path, Class<T> type) {
+        AssetManager assets = getManager();
+        if (!assets.isLoaded(path, type)) {
+            if (!assets.contains(path, type)) {
+                assets.load(path, type);
+            }
+            assets.finishLoadingAsset(path);
+        }
+        return assets.get(path, type);
+    }
+
+    /**
+     * Disposes every asset loaded through the shared AssetManager.
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.UniSim.game;
 
 import com.UniSim.game.Screens.EndScreen;
 import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.Simulation.Schedule;
+import com.UniSim.game.Simulation.ScheduledTask;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.Simulation.TimeScale;
 import com.UniSim.game.Stats.PlayerStats;
 import com.UniSim.game.Stats.StatsLabels;
 import com.badlogic.gdx.Gdx;
@@ -27,22 +31,26 @@ import java.util.ArrayList;
  * It also manages updates to the player's stats and the game timer.
  */
 public class Hud {
+    // Satisfaction is recalculated every 30 seconds until the session ends
+    public static final Schedule SATISFACTION_SCHEDULE = Schedule.every(30).until(300);
+
     public Stage stage;
     private Viewport viewport;
     private Skin skin;
     private World world;
 
     private Integer worldTimer;
-    private float timeCount;
+    private SimulationClock clock;
+    private ScheduledTask countdown; // Repeats every second to count the session down
     private boolean timeUp;
     private GameScreen gameScreen;
-    private boolean satUpdateOnce;
     private boolean endOnce;
     private UniSim game;
     private Music music;
 
     Label countdownLabel;
     Label timeLabel;
+    Label speedLabel;
 
     public PlayerStats stats;
 
@@ -58,18 +66,20 @@ public class Hud {
      * @param gameScreen the current game screen
      * @param game       the main game instance
      * @param music      the background music for the game
+     * @param clock      the simulation clock the countdown runs on
      */
-    public Hud(SpriteBatch sb, Skin skin, World world, GameScreen gameScreen, UniSim game, Music music) {
+    public Hud(SpriteBatch sb, Skin skin, World world, GameScreen gameScreen, UniSim game, Music music, SimulationClock clock) {
         this.world = world;
+        this.clock = clock;
         this.skin = skin;
         this.gameScreen = gameScreen;
-        this.satUpdateOnce = false;
         this.endOnce = false;
         this.game = game;
         this.music = music;
         setTimer(sb);
         setStats(skin, world);
         createMessageLabel(skin);
+        clock.schedule(SATISFACTION_SCHEDULE, this::satisfactionUpdate);
     }
     public PlayerStats getStats(){
         return stats;
@@ -106,7 +116,13 @@ public class Hud {
      */
     private void setTimer(SpriteBatch sb) {
         worldTimer = 300;
-        timeCount = 0;
+        countdown = new ScheduledTask() {
+            @Override
+            protected void run() {
+                countDown();
+            }
+        };
+        clock.schedule(countdown, 1, 1);
 
         viewport = new FitViewport(Gdx.graphics.getWidth() / 2f, Gdx.graphics.getHeight() / 2f, new OrthographicCamera());
         stage = new Stage(viewport, sb);
@@ -121,6 +137,9 @@ public class Hud {
         table.add(timeLabel).expandX().pad(10);
         table.row();
         table.add(countdownLabel).expandX();
+        table.row();
+        speedLabel = new Label(clock.getTimeScale().getLabel(), new Label.LabelStyle(new BitmapFont(), Color.WHITE));
+        table.add(speedLabel).expandX();
 
         stage.addActor(table);
     }
@@ -139,20 +158,32 @@ public class Hud {
 
     public void update(float dt){
         updateStats();
-        satisfactionUpdate(dt);
         //fatigueUpdaate(dt);
-        timeCount += dt;
-        if(timeCount >= 1){
-            if (worldTimer > 0) {
-                worldTimer--;
-            } else {
-                timeUp = true;
-            }
-            countdownLabel.setText(String.format("%03d", worldTimer));
-            timeCount = 0;
-            checkIfEnd();
+    }
+
+    /**
+     * Counts the session timer down by one second. Run by the countdown task every second of simulation time.
+     */
+    private void countDown() {
+        if (worldTimer > 0) {
+            worldTimer--;
+        } else {
+            timeUp = true;
+            countdown.cancel();
         }
+        countdownLabel.setText(String.format("%03d", worldTimer));
+        checkIfEnd();
+    }
+    /**
+     * Changes how fast the simulation runs and shows the new speed under the timer.
+     *
+     * @param timeScale the new time scale
+     */
+    public void setTimeScale(TimeScale timeScale) {
+        clock.setTimeScale(timeScale);
+        speedLabel.setText(timeScale.getLabel());
     }
+
     public float getTimeCount(){
         return worldTimer;
     }
@@ -170,22 +201,12 @@ public class Hud {
 
 
     /**
-     * Updates the satisfaction value of the player every 30 seconds.
-     *
-     * @param dt the time delta between frames
+     * Updates the satisfaction value of the player. Run on {@link #SATISFACTION_SCHEDULE}.
      */
-    private void satisfactionUpdate(float dt){
-        if (worldTimer % 30 == 0 && worldTimer != 300 && !satUpdateOnce) {
-            int increase = stats.calculateSatisfaction();
-            gameScreen.popUp("+" + increase + " Satisfaction", 3);
-            stats.increaseSatisfaction(increase);
-            satUpdateOnce = true;
-        }
-
-        // Reset `satUpdateOnce` once we're past the 30-second mark
-        if (worldTimer % 30 != 0) {
-            satUpdateOnce = false;
-        }
+    private void satisfactionUpdate(){
+        int increase = stats.calculateSatisfaction();
+        gameScreen.popUp("+" + increase + " Satisfaction", 3);
+        stats.increaseSatisfaction(increase);
     }
 
     /**
@@ -194,8 +215,12 @@ public class Hud {
     private void checkIfEnd(){
         if (worldTimer == 0 && !endOnce){
             endOnce = true;
-            music.stop();
-            game.setScreen(new EndScreen(game, music, stats));
+            gameScreen.finishSession();
+            // A replayed session only checks it ended the same way, and does not go on to the end screen
+            if (!gameScreen.isReplay()) {
+                music.stop();
+                game.setScreen(new EndScreen(game, music, stats));
+            }
         }
     }
 
@@ -0,0 +1,171 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ChunkStreamer keeps the chunks around the camera of a {@link ChunkedMap} in memory.
+ * Missing chunks are read from disk on a background thread and handed back to the game thread,
+ * where listeners build whatever they need from them. Once more than the allowed number of chunks
+ * are in memory, the least recently visible chunks are evicted, so memory use stays the same
+ * however large the map is and however far the camera zooms out.
+ */
+public class ChunkStreamer implements Disposable {
+
+    /**
+     * Listener told when chunks enter or leave memory. Always called on the game thread.
+     */
+    public interface Listener {
+        void chunkLoaded(MapChunk chunk);
+
+        void chunkEvicted(MapChunk chunk);
+    }
+
+    private final ChunkedMap map;
+    private final float unitScale;
+    private final int maxResident;
+    private final Array<Listener> listeners;
+
+    private final ExecutorService loader;
+    private final ConcurrentLinkedQueue<MapChunk> loaded;
+    private final Set<Long> requested;
+    // Ordered from least to most recently visible
+    private final LinkedHashMap<Long, MapChunk> resident;
+
+    /**
+     * @param map The map to stream
+     * @param unitScale The number of world units per map pixel
+     * @param maxResident The number of chunks that may stay in memory. When more are visible, only
+     *                    the chunks nearest the camera are streamed in
+     */
+    public ChunkStreamer(ChunkedMap map, float unitScale, int maxResident) {
+        this.map = map;
+        this.unitScale = unitScale;
+        this.maxResident = maxResident;
+        this.listeners = new Array<>();
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ChunkStreamer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.loaded = new ConcurrentLinkedQueue<>();
+        this.requested = new HashSet<>();
+        this.resident = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Requests the chunks around the camera, passes finished chunks to the listeners and evicts
+     * chunks that have not been visible for the longest time. Call once per frame.
+     *
+     * @param camera The camera the map is viewed through
+     */
+    public void update(OrthographicCamera camera) {
+        MapChunk chunk;
+        while ((chunk = loaded.poll()) != null) {
+            requested.remove(chunk.getKey());
+            resident.put(chunk.getKey(), chunk);
+            for (Listener listener : listeners) {
+                listener.chunkLoaded(chunk);
+            }
+        }
+
+        // Stream in one ring of chunks beyond the view so they are ready before they are visible
+        float chunkWidth = map.getChunkSize() * map.getTileWidth() * unitScale;
+        float chunkHeight = map.getChunkSize() * map.getTileHeight() * unitScale;
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        int startX = Math.max(0, (int) Math.floor((camera.position.x - halfWidth) / chunkWidth) - 1);
+        int startY = Math.max(0, (int) Math.floor((camera.position.y - halfHeight) / chunkHeight) - 1);
+        int endX = Math.min(map.getChunksX() - 1, (int) Math.floor((camera.position.x + halfWidth) / chunkWidth) + 1);
+        int endY = Math.min(map.getChunksY() - 1, (int) Math.floor((camera.position.y + halfHeight) / chunkHeight) + 1);
+
+        // Zoomed out too far to keep every visible chunk, so keep the ones nearest the camera by
+        // trimming whichever side of the area lies furthest from it
+        float centreX = camera.position.x / chunkWidth - 0.5f;
+        float centreY = camera.position.y / chunkHeight - 0.5f;
+        while ((endX - startX + 1) * (endY - startY + 1) > maxResident) {
+            if (endX - startX >= endY - startY) {
+                if (centreX - startX > endX - centreX) {
+                    startX++;
+                } else {
+                    endX--;
+                }
+            } else if (centreY - startY > endY - centreY) {
+                startY++;
+            } else {
+                endY--;
+            }
+        }
+
+        for (int y = startY; y <= endY; y++) {
+            for (int x = startX; x <= endX; x++) {
+                long key = MapChunk.key(x, y);
+                // Reading the chunk marks it as the most recently visible
+                if (resident.get(key) == null && requested.add(key)) {
+                    request(x, y);
+                }
+            }
+        }
+
+        evict(maxResident);
+    }
+
+    private void request(int chunkX, int chunkY) {
+        loader.execute(() -> {
+            MapChunk chunk;
+            try {
+                chunk = map.readChunk(chunkX, chunkY);
+            } catch (IOException | RuntimeException e) {
+                Gdx.app.error("ChunkStreamer", "Error loading chunk " + chunkX + ", " + chunkY, e);
+                chunk = MapChunk.empty(chunkX, chunkY, map.getChunkSize(), map.getTileLayers().length);
+            }
+            loaded.add(chunk);
+        });
+    }
+
+    private void evict(int limit) {
+        Iterator<Map.Entry<Long, MapChunk>> eldest = resident.entrySet().iterator();
+        while (resident.size() > limit && eldest.hasNext()) {
+            MapChunk chunk = eldest.next().getValue();
+            eldest.remove();
+            for (Listener listener : listeners) {
+                listener.chunkEvicted(chunk);
+            }
+        }
+    }
+
+    /**
+     * @return The number of chunks currently in memory
+     */
+    public int getResidentCount() {
+        return resident.size();
+    }
+
+    @Override
+    public void dispose() {
+        loader.shutdownNow();
+        for (MapChunk chunk : resident.values()) {
+            for (Listener listener : listeners) {
+                listener.chunkEvicted(chunk);
+            }
+        }
+        resident.clear();
+        loaded.clear();
+    }
+}
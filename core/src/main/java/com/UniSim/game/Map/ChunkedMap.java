@@ -0,0 +1,182 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * ChunkedMap describes a map stored as a folder of separately loadable chunks, written by the
+ * lwjgl3 MapChunker tool. Only the small index is read up front; chunks are read on demand by the
+ * {@link ChunkStreamer}, so the size of the map does not affect loading time or memory.
+ * <p>
+ * The folder contains:
+ * <ul>
+ *     <li>{@code index.bin} - the map size, chunk size, layer names and every object of the map, so
+ *     the whole map's {@link MapSchema} can be built without reading any chunks.</li>
+ *     <li>{@code skeleton.tmx} - the map's tilesets with empty layers, loaded to resolve tile ids.</li>
+ *     <li>{@code chunk_x_y.bin} - the tiles and objects of each chunk, deflate compressed.
+ *     Chunks with nothing in them are not written.</li>
+ * </ul>
+ */
+public class ChunkedMap {
+
+    public static final String INDEX_FILE = "index.bin";
+    public static final String SKELETON_FILE = "skeleton.tmx";
+    public static final int MAGIC = 0x55434D50; // "UCMP"
+    public static final int VERSION = 2;
+
+    private final FileHandle directory;
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int chunkSize;
+    private final String[] tileLayers;
+    private final String[] objectLayers;
+    private final Array<Array<Rectangle>> objects;
+
+    /**
+     * Reads the index of a chunked map.
+     *
+     * @param path The internal path of the map's folder
+     */
+    public ChunkedMap(String path) {
+        directory = Gdx.files.internal(path);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(directory.child(INDEX_FILE).read()))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new RuntimeException("Unsupported chunked map: " + path);
+            }
+            width = in.readInt();
+            height = in.readInt();
+            tileWidth = in.readInt();
+            tileHeight = in.readInt();
+            chunkSize = in.readInt();
+            tileLayers = new String[in.readInt()];
+            for (int i = 0; i < tileLayers.length; i++) {
+                tileLayers[i] = in.readUTF();
+            }
+            objectLayers = new String[in.readInt()];
+            for (int i = 0; i < objectLayers.length; i++) {
+                objectLayers[i] = in.readUTF();
+            }
+            objects = new Array<>(objectLayers.length);
+            for (int i = 0; i < objectLayers.length; i++) {
+                int count = in.readInt();
+                Array<Rectangle> layer = new Array<>(count);
+                for (int j = 0; j < count; j++) {
+                    layer.add(new Rectangle(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat()));
+                }
+                objects.add(layer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read chunked map " + path, e);
+        }
+    }
+
+    /**
+     * Checks whether a chunked map exists.
+     *
+     * @param path The internal path of the map's folder
+     * @return true if the folder contains a chunk index
+     */
+    public static boolean exists(String path) {
+        return Gdx.files.internal(path).child(INDEX_FILE).exists();
+    }
+
+    public static String chunkFileName(int chunkX, int chunkY) {
+        return "chunk_" + chunkX + "_" + chunkY + ".bin";
+    }
+
+    /**
+     * Reads one chunk from disk. Safe to call from any thread.
+     *
+     * @param chunkX The column of the chunk
+     * @param chunkY The row of the chunk, counting up from the bottom of the map
+     * @return The chunk, empty if nothing was written for it
+     * @throws IOException If the chunk file could not be read
+     */
+    public MapChunk readChunk(int chunkX, int chunkY) throws IOException {
+        FileHandle file = directory.child(chunkFileName(chunkX, chunkY));
+        if (!file.exists()) {
+            return MapChunk.empty(chunkX, chunkY, chunkSize, tileLayers.length);
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(file.read())))) {
+            int[][] tiles = new int[tileLayers.length][chunkSize * chunkSize];
+            for (int[] layer : tiles) {
+                for (int i = 0; i < layer.length; i++) {
+                    layer[i] = in.readInt();
+                }
+            }
+            int objectCount = in.readInt();
+            short[] layers = new short[objectCount];
+            Rectangle[] objects = new Rectangle[objectCount];
+            for (int i = 0; i < objectCount; i++) {
+                layers[i] = in.readShort();
+                objects[i] = new Rectangle(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+            }
+            return new MapChunk(chunkX, chunkY, chunkSize, tiles, layers, objects);
+        }
+    }
+
+    public FileHandle getSkeleton() {
+        return directory.child(SKELETON_FILE);
+    }
+
+    /**
+     * @return The width of the map in tiles
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The height of the map in tiles
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getChunksX() {
+        return (width + chunkSize - 1) / chunkSize;
+    }
+
+    public int getChunksY() {
+        return (height + chunkSize - 1) / chunkSize;
+    }
+
+    public String[] getTileLayers() {
+        return tileLayers;
+    }
+
+    public String[] getObjectLayers() {
+        return objectLayers;
+    }
+
+    /**
+     * @param layer The index of the object layer, in the order of {@link #getObjectLayers()}
+     * @return Every rectangle of the layer across the whole map, in map pixels counting up from the
+     *         bottom. Must not be modified
+     */
+    public Array<Rectangle> getObjects(int layer) {
+        return objects.get(layer);
+    }
+}
@@ -0,0 +1,203 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.util.Arrays;
+
+/**
+ * HitboxMerger combines the collision rectangles drawn in Tiled into fewer, larger rectangles covering
+ * exactly the same area. The map's water alone is made of around twenty thin adjacent rectangles,
+ * each of which would otherwise be a separate box in the physics broad phase.
+ *
+ * The rectangles' edges split the map into a grid of cells, each either fully covered or fully empty.
+ * Starting from each cell not yet covered by a merged rectangle, a rectangle is grown as far as the
+ * covered cells allow, first along the row and then across rows. Merged rectangles may overlap, so
+ * any that end up entirely inside others are dropped afterwards.
+ */
+public final class HitboxMerger {
+
+    private HitboxMerger() {
+    }
+
+    /**
+     * Merges rectangles into a smaller set of rectangles with the same union.
+     *
+     * @param rectangles The rectangles to merge, which may touch or overlap
+     * @return New rectangles covering exactly the same area, never more than were given
+     */
+    public static Array<Rectangle> merge(Array<Rectangle> rectangles) {
+        float[] xs = edges(rectangles, true);
+        float[] ys = edges(rectangles, false);
+        boolean[][] covered = cover(rectangles, xs, ys);
+
+        // Growing along columns instead of rows suits vertical strips, so try both
+        Array<Rectangle> byRows = grow(covered, xs, ys, false);
+        Array<Rectangle> byColumns = grow(transpose(covered), ys, xs, true);
+        Array<Rectangle> merged = byRows.size <= byColumns.size ? byRows : byColumns;
+        if (merged.size >= rectangles.size) {
+            merged.clear();
+            for (Rectangle rect : rectangles) {
+                merged.add(new Rectangle(rect));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Grows maximal rectangles over the covered cells of a grid, then drops the redundant ones.
+     *
+     * @param covered The covered cells, indexed by column then row
+     * @param xs The column edges
+     * @param ys The row edges
+     * @param transposed Whether the grid was transposed, so the rectangles' axes must be swapped back
+     */
+    private static Array<Rectangle> grow(boolean[][] covered, float[] xs, float[] ys, boolean transposed) {
+        int columns = covered.length;
+        int rows = columns == 0 ? 0 : covered[0].length;
+        int[][] counts = new int[columns][rows];
+        Array<int[]> grown = new Array<>();
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (!covered[column][row] || counts[column][row] > 0) {
+                    continue;
+                }
+                int startColumn = column;
+                while (startColumn > 0 && covered[startColumn - 1][row]) {
+                    startColumn--;
+                }
+                int endColumn = column + 1;
+                while (endColumn < columns && covered[endColumn][row]) {
+                    endColumn++;
+                }
+                int startRow = row;
+                while (startRow > 0 && isCovered(covered, startColumn, endColumn, startRow - 1)) {
+                    startRow--;
+                }
+                int endRow = row + 1;
+                while (endRow < rows && isCovered(covered, startColumn, endColumn, endRow)) {
+                    endRow++;
+                }
+                int[] cells = {startColumn, startRow, endColumn, endRow};
+                addCount(counts, cells, 1);
+                grown.add(cells);
+            }
+        }
+
+        Array<Rectangle> merged = new Array<>();
+        for (int[] cells : grown) {
+            if (isRedundant(counts, cells)) {
+                addCount(counts, cells, -1);
+                continue;
+            }
+            float x = xs[cells[0]];
+            float y = ys[cells[1]];
+            float width = xs[cells[2]] - x;
+            float height = ys[cells[3]] - y;
+            merged.add(transposed ? new Rectangle(y, x, height, width) : new Rectangle(x, y, width, height));
+        }
+        return merged;
+    }
+
+    private static boolean isCovered(boolean[][] covered, int column, int endColumn, int row) {
+        for (int x = column; x < endColumn; x++) {
+            if (!covered[x][row]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addCount(int[][] counts, int[] cells, int amount) {
+        for (int x = cells[0]; x < cells[2]; x++) {
+            for (int y = cells[1]; y < cells[3]; y++) {
+                counts[x][y] += amount;
+            }
+        }
+    }
+
+    /**
+     * @return true if every cell of the rectangle is also covered by another rectangle
+     */
+    private static boolean isRedundant(int[][] counts, int[] cells) {
+        for (int x = cells[0]; x < cells[2]; x++) {
+            for (int y = cells[1]; y < cells[3]; y++) {
+                if (counts[x][y] < 2) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean[][] transpose(boolean[][] grid) {
+        int columns = grid.length;
+        int rows = columns == 0 ? 0 : grid[0].length;
+        boolean[][] transposed = new boolean[rows][columns];
+        for (int x = 0; x < columns; x++) {
+            for (int y = 0; y < rows; y++) {
+                transposed[y][x] = grid[x][y];
+            }
+        }
+        return transposed;
+    }
+
+    /**
+     * @return The sorted, distinct x or y coordinates of every rectangle edge
+     */
+    private static float[] edges(Array<Rectangle> rectangles, boolean horizontal) {
+        FloatArray edges = new FloatArray(rectangles.size * 2);
+        for (Rectangle rect : rectangles) {
+            edges.add(horizontal ? rect.x : rect.y);
+            edges.add(horizontal ? rect.x + rect.width : rect.y + rect.height);
+        }
+        edges.sort();
+        FloatArray distinct = new FloatArray(edges.size);
+        for (int i = 0; i < edges.size; i++) {
+            if (distinct.isEmpty() || distinct.peek() != edges.get(i)) {
+                distinct.add(edges.get(i));
+            }
+        }
+        return distinct.toArray();
+    }
+
+    /**
+     * Marks every grid cell lying inside at least one rectangle.
+     */
+    private static boolean[][] cover(Array<Rectangle> rectangles, float[] xs, float[] ys) {
+        boolean[][] covered = new boolean[Math.max(xs.length - 1, 0)][Math.max(ys.length - 1, 0)];
+        for (Rectangle rect : rectangles) {
+            int startColumn = indexOf(xs, rect.x);
+            int endColumn = indexOf(xs, rect.x + rect.width);
+            int startRow = indexOf(ys, rect.y);
+            int endRow = indexOf(ys, rect.y + rect.height);
+            for (int x = startColumn; x < endColumn; x++) {
+                for (int y = startRow; y < endRow; y++) {
+                    covered[x][y] = true;
+                }
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Finds the edge closest to a coordinate, allowing for rounding when a merged rectangle's width
+     * is added back onto its position.
+     */
+    private static int indexOf(float[] edges, float value) {
+        int index = Arrays.binarySearch(edges, value);
+        if (index >= 0) {
+            return index;
+        }
+        int insertion = -index - 1;
+        if (insertion == 0) {
+            return 0;
+        }
+        if (insertion == edges.length) {
+            return edges.length - 1;
+        }
+        return value - edges[insertion - 1] < edges[insertion] - value ? insertion - 1 : insertion;
+    }
+}
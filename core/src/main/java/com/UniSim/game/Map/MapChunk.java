@@ -0,0 +1,95 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * A square block of a chunked map: the tiles of every tile layer inside the block, and the objects
+ * whose centre lies inside it. Chunks are read on the streaming thread and handed to the game
+ * thread complete, so they are never modified after being created.
+ */
+public class MapChunk {
+
+    private final int chunkX;
+    private final int chunkY;
+    private final int size;
+    // Tile ids by layer, then row * size + column counting up from the bottom left. 0 is an empty cell
+    private final int[][] tiles;
+    private final short[] objectLayers;
+    private final Rectangle[] objects;
+
+    /**
+     * @param chunkX The column of the chunk
+     * @param chunkY The row of the chunk, counting up from the bottom of the map
+     * @param size The width and height of the chunk in tiles
+     * @param tiles The global tile ids of each tile layer, including Tiled's flip flags
+     * @param objectLayers The index of the object layer each object belongs to
+     * @param objects The bounds of each object in map pixels
+     */
+    public MapChunk(int chunkX, int chunkY, int size, int[][] tiles, short[] objectLayers, Rectangle[] objects) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.size = size;
+        this.tiles = tiles;
+        this.objectLayers = objectLayers;
+        this.objects = objects;
+    }
+
+    /**
+     * Creates a chunk with no tiles and no objects, used for parts of the map with nothing in them.
+     */
+    public static MapChunk empty(int chunkX, int chunkY, int size, int tileLayers) {
+        return new MapChunk(chunkX, chunkY, size, new int[tileLayers][size * size], new short[0], new Rectangle[0]);
+    }
+
+    /**
+     * Packs chunk coordinates into a single key.
+     */
+    public static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    public long getKey() {
+        return key(chunkX, chunkY);
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getLayerCount() {
+        return tiles.length;
+    }
+
+    /**
+     * @param layer The index of the tile layer
+     * @param column The column within the chunk
+     * @param row The row within the chunk, counting up from the bottom
+     * @return The global tile id with Tiled's flip flags, or 0 for an empty cell
+     */
+    public int getTile(int layer, int column, int row) {
+        return tiles[layer][row * size + column];
+    }
+
+    public int getObjectCount() {
+        return objects.length;
+    }
+
+    public int getObjectLayer(int index) {
+        return objectLayers[index];
+    }
+
+    /**
+     * @return The bounds of the object in map pixels. The rectangle must not be modified
+     */
+    public Rectangle getObject(int index) {
+        return objects[index];
+    }
+}
@@ -0,0 +1,155 @@
+package com.UniSim.game.Map;
+
+import com.UniSim.game.Buildings.BuildingManager;
+import com.UniSim.game.Buildings.Placed;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * MapLod keeps a pre-rendered image of the whole campus, used in place of the tile layers and
+ * placed buildings when the camera is zoomed out far enough that the detail would not be visible,
+ * such as in the full map view used for building.
+ *
+ * The image is rendered once from the tile layers, then each newly placed building is stamped on top
+ * of it, so placing a building never re-renders the whole map.
+ */
+public class MapLod implements BuildingManager.PlacementListener, Disposable {
+
+    private static final int MAX_TEXTURE_SIZE = 4096;
+    // How far the image may be stretched on screen before the tile layers are drawn instead
+    private static final float MAX_MAGNIFICATION = 1.25f;
+
+    private final StaticLayerRenderer layers;
+    private final float mapWidth;
+    private final float mapHeight;
+    private final float pixelsPerUnit;
+
+    private final FrameBuffer frameBuffer;
+    private final TextureRegion image;
+    private final OrthographicCamera lodCamera;
+    private final SpriteBatch batch;
+
+    private final Array<Placed> stamped;
+    private final Array<Placed> pending;
+    private boolean baked;
+
+    /**
+     * Creates the level of detail image for a map. The image is rendered on the first call to
+     * {@link #update(Viewport)}.
+     *
+     * @param map The map being drawn
+     * @param layers The renderer drawing the map's tile layers
+     * @param unitScale The number of world units per map pixel
+     */
+    public MapLod(TiledMap map, StaticLayerRenderer layers, float unitScale) {
+        this.layers = layers;
+
+        MapProperties properties = map.getProperties();
+        int widthInTiles = properties.get("width", Integer.class);
+        int heightInTiles = properties.get("height", Integer.class);
+        int tileWidth = properties.get("tilewidth", Integer.class);
+        int tileHeight = properties.get("tileheight", Integer.class);
+        mapWidth = widthInTiles * tileWidth * unitScale;
+        mapHeight = heightInTiles * tileHeight * unitScale;
+
+        // Full detail for maps that fit in one texture, downsampled for larger maps
+        float pixelsPerTile = Math.min(tileWidth, (float) MAX_TEXTURE_SIZE / Math.max(widthInTiles, heightInTiles));
+        pixelsPerUnit = pixelsPerTile / (tileWidth * unitScale);
+
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888,
+            Math.round(mapWidth * pixelsPerUnit), Math.round(mapHeight * pixelsPerUnit), false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        image = new TextureRegion(texture);
+        image.flip(false, true); // Frame buffer textures are stored upside down
+
+        lodCamera = new OrthographicCamera(mapWidth, mapHeight);
+        lodCamera.position.set(mapWidth / 2, mapHeight / 2, 0);
+        lodCamera.update();
+        batch = new SpriteBatch();
+
+        stamped = new Array<>();
+        pending = new Array<>();
+        baked = false;
+    }
+
+    @Override
+    public void buildingPlaced(Placed building) {
+        pending.add(building);
+    }
+
+    /**
+     * Brings the image up to date, rendering the map the first time and stamping any buildings
+     * placed since the last call. Must be called before anything is drawn in the frame.
+     *
+     * @param viewport The viewport to restore once the image has been drawn
+     */
+    public void update(Viewport viewport) {
+        if (baked && pending.isEmpty()) {
+            return;
+        }
+
+        frameBuffer.begin();
+        if (!baked) {
+            Gdx.gl.glClearColor(0, 0, 0, 1);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            layers.render(lodCamera);
+            pending.addAll(stamped, 0, stamped.size);
+            stamped.clear();
+            baked = true;
+        }
+
+        batch.setProjectionMatrix(lodCamera.combined);
+        batch.begin();
+        for (Placed building : pending) {
+            Rectangle bounds = building.getBounds();
+            batch.draw(building.getTexture(), bounds.x, bounds.y, bounds.width, bounds.height);
+            stamped.add(building);
+        }
+        batch.end();
+        pending.clear();
+
+        frameBuffer.end(viewport.getScreenX(), viewport.getScreenY(), viewport.getScreenWidth(), viewport.getScreenHeight());
+    }
+
+    /**
+     * Checks whether the camera is zoomed out far enough to draw the image instead of the full detail map.
+     *
+     * @param camera The camera the map is viewed through
+     * @param viewport The viewport the camera draws into
+     * @return true if the image should be drawn
+     */
+    public boolean isActive(OrthographicCamera camera, Viewport viewport) {
+        float screenPixelsPerUnit = viewport.getScreenWidth() / (camera.viewportWidth * camera.zoom);
+        return baked && screenPixelsPerUnit <= pixelsPerUnit * MAX_MAGNIFICATION;
+    }
+
+    /**
+     * Draws the image over the whole map.
+     *
+     * @param batch The batch to draw with, already set to the camera's projection
+     */
+    public void render(SpriteBatch batch) {
+        batch.begin();
+        batch.draw(image, 0, 0, mapWidth, mapHeight);
+        batch.end();
+    }
+
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+        batch.dispose();
+    }
+}
@@ -0,0 +1,198 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * MapSchema describes which object layers of a map the game uses, looked up by name rather than by
+ * position so reordering layers in Tiled cannot silently break collision. The rectangles of those
+ * layers are read once per map file and cached, so nothing has to scan the map's layers again.
+ */
+public final class MapSchema {
+
+    // Object layers whose rectangles block movement and building placement
+    public static final String[] COLLISION_LAYERS = {"Water", "Road", "House"};
+    // Object layers whose rectangles only block building placement
+    public static final String[] NO_BUILD_LAYERS = {"Road2"};
+    // Object layers whose rectangles trigger the reception's build mode prompt
+    public static final String[] SENSOR_LAYERS = {"HitBoxReseption"};
+    // Object layers whose rectangles are lakes, which buildings get a bonus for being near
+    public static final String[] WATER_LAYERS = {"Water"};
+
+    // Keyed by path and unit scale, since the same map read at another scale has different rectangles
+    private static final ObjectMap<String, MapSchema> schemas = new ObjectMap<>();
+
+    private final Array<Rectangle> collision;
+    private final Array<Rectangle> noBuild;
+    private final Array<Rectangle> sensors;
+    private final Array<Rectangle> water;
+
+    /**
+     * Looks up the rectangles of an object layer, in map pixels.
+     */
+    private interface LayerSource {
+        /**
+         * @return The layer's rectangles, or null if there is no object layer with that name
+         */
+        Array<Rectangle> read(String name);
+    }
+
+    private MapSchema(String path, LayerSource source, float unitScale) {
+        collision = readLayers(path, source, COLLISION_LAYERS, unitScale);
+        noBuild = readLayers(path, source, NO_BUILD_LAYERS, unitScale);
+        sensors = readLayers(path, source, SENSOR_LAYERS, unitScale);
+        water = readLayers(path, source, WATER_LAYERS, unitScale);
+    }
+
+    /**
+     * Returns the schema of a map, reading it the first time the map is used.
+     *
+     * @param path The internal path the map was loaded from, used with the unit scale as the cache key
+     * @param map The loaded map
+     * @param unitScale The number of world units per map pixel
+     * @return The map's schema
+     * @throws RuntimeException if the map is missing one of the expected object layers
+     */
+    public static MapSchema forMap(String path, TiledMap map, float unitScale) {
+        String key = cacheKey(path, unitScale);
+        MapSchema schema = schemas.get(key);
+        if (schema == null) {
+            schema = new MapSchema(path, name -> readObjects(map, name), unitScale);
+            schemas.put(key, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Returns the schema of a chunked map, read from the objects stored in its index so the whole
+     * map is known without streaming in any chunks.
+     *
+     * @param path The internal path of the chunked map's folder, used with the unit scale as the cache key
+     * @param map The chunked map
+     * @param unitScale The number of world units per map pixel
+     * @return The map's schema
+     * @throws RuntimeException if the map is missing one of the expected object layers
+     */
+    public static MapSchema forChunkedMap(String path, ChunkedMap map, float unitScale) {
+        String key = cacheKey(path, unitScale);
+        MapSchema schema = schemas.get(key);
+        if (schema == null) {
+            schema = new MapSchema(path, name -> {
+                String[] layers = map.getObjectLayers();
+                for (int i = 0; i < layers.length; i++) {
+                    if (layers[i].equals(name)) {
+                        return map.getObjects(i);
+                    }
+                }
+                return null;
+            }, unitScale);
+            schemas.put(key, schema);
+        }
+        return schema;
+    }
+
+    private static String cacheKey(String path, float unitScale) {
+        return path + "@" + unitScale;
+    }
+
+    /**
+     * Finds the object layer with the given name. Tile layers are skipped, since the map has both a
+     * tile layer and an object layer called "Water".
+     *
+     * @return The object layer, or null if the map does not have one with that name
+     */
+    public static MapLayer findObjectLayer(TiledMap map, String name) {
+        for (MapLayer layer : map.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer) && name.equals(layer.getName())) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    private static Array<Rectangle> readObjects(TiledMap map, String name) {
+        MapLayer layer = findObjectLayer(map, name);
+        if (layer == null) {
+            return null;
+        }
+        Array<Rectangle> rectangles = new Array<>();
+        for (MapObject object : layer.getObjects().getByType(RectangleMapObject.class)) {
+            rectangles.add(((RectangleMapObject) object).getRectangle());
+        }
+        return rectangles;
+    }
+
+    private static Array<Rectangle> readLayers(String path, LayerSource source, String[] names, float unitScale) {
+        Array<Rectangle> rectangles = new Array<>();
+        for (String name : names) {
+            Array<Rectangle> layer = source.read(name);
+            if (layer == null) {
+                throw new RuntimeException("Map " + path + " has no object layer named " + name);
+            }
+            for (Rectangle rect : layer) {
+                rectangles.add(new Rectangle(rect.x * unitScale, rect.y * unitScale,
+                    rect.width * unitScale, rect.height * unitScale));
+            }
+        }
+        return rectangles;
+    }
+
+    /**
+     * @return The rectangles blocking movement, in world units. Must not be modified
+     */
+    public Array<Rectangle> getCollision() {
+        return collision;
+    }
+
+    /**
+     * @return The rectangles that only block building placement, in world units. Must not be modified
+     */
+    public Array<Rectangle> getNoBuild() {
+        return noBuild;
+    }
+
+    /**
+     * @return The rectangles of the reception's sensor areas, in world units. Must not be modified
+     */
+    public Array<Rectangle> getSensors() {
+        return sensors;
+    }
+
+    /**
+     * @return The rectangles of the map's lakes, in world units. These also block movement. Must not be modified
+     */
+    public Array<Rectangle> getWater() {
+        return water;
+    }
+
+    /**
+     * Checks whether an area overlaps any rectangle of the schema's layers, so a building cannot be placed there.
+     *
+     * @param area The area to check, in world units
+     * @return true if the area overlaps part of the map
+     */
+    public boolean overlaps(Rectangle area) {
+        for (Rectangle rect : collision) {
+            if (rect.overlaps(area)) {
+                return true;
+            }
+        }
+        for (Rectangle rect : noBuild) {
+            if (rect.overlaps(area)) {
+                return true;
+            }
+        }
+        for (Rectangle rect : sensors) {
+            if (rect.overlaps(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
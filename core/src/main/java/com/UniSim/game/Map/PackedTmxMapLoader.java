@@ -0,0 +1,69 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * PackedTmxMapLoader loads Tiled maps through the AssetManager, taking every tile image that has
+ * been packed into the map atlas (by the lwjgl3 packTextures task) from the atlas instead of its
+ * loose file. Only the atlas and any images missing from it are loaded, so packed tiles are never
+ * loaded twice. Images are matched to regions by file name without the extension. When the atlas
+ * has not been packed, maps load from their loose images as usual.
+ */
+public class PackedTmxMapLoader extends TmxMapLoader {
+
+    private final String atlasPath;
+
+    /**
+     * @param resolver Resolves the paths of maps and their images
+     * @param atlasPath The path of the atlas the tile images are packed into
+     */
+    public PackedTmxMapLoader(FileHandleResolver resolver, String atlasPath) {
+        super(resolver);
+        this.atlasPath = atlasPath;
+    }
+
+    @Override
+    protected Array<AssetDescriptor> getDependencyAssetDescriptors(FileHandle tmxFile, TextureLoader.TextureParameter textureParameter) {
+        FileHandle atlasFile = resolve(atlasPath);
+        if (!atlasFile.exists()) {
+            return super.getDependencyAssetDescriptors(tmxFile, textureParameter);
+        }
+        // Only the atlas' text is read here; its pages are loaded as a dependency like anything else
+        ObjectSet<String> packed = new ObjectSet<>();
+        for (TextureAtlas.TextureAtlasData.Region region : new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false).getRegions()) {
+            packed.add(region.name);
+        }
+        Array<AssetDescriptor> descriptors = new Array<>();
+        descriptors.add(new AssetDescriptor<>(atlasPath, TextureAtlas.class));
+        for (FileHandle image : getDependencyFileHandles(tmxFile)) {
+            if (!packed.contains(image.nameWithoutExtension())) {
+                descriptors.add(new AssetDescriptor<>(image, Texture.class, textureParameter));
+            }
+        }
+        return descriptors;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle tmxFile, Parameters parameter) {
+        if (!manager.isLoaded(atlasPath, TextureAtlas.class)) {
+            super.loadAsync(manager, fileName, tmxFile, parameter);
+            return;
+        }
+        TextureAtlas atlas = manager.get(atlasPath, TextureAtlas.class);
+        ImageResolver loose = new ImageResolver.AssetManagerImageResolver(manager);
+        map = loadTiledMap(tmxFile, parameter, name -> {
+            TextureAtlas.AtlasRegion region = atlas.findRegion(new FileHandle(name).nameWithoutExtension());
+            return region != null ? region : loose.getImage(name);
+        });
+    }
+}
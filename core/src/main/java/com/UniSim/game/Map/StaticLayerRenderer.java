@@ -0,0 +1,232 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * StaticLayerRenderer draws the tile layers of a map from geometry that is built once.
+ * Each tile layer is split into square chunks, and every chunk is baked into a SpriteCache when the
+ * renderer is created. Each frame only the chunks that intersect the camera are drawn, so the CPU no
+ * longer has to rebuild the vertices of every visible tile.
+ *
+ * Layers containing animated tiles cannot be baked; those are drawn by the regular tile renderer.
+ */
+public class StaticLayerRenderer implements Disposable {
+
+    public static final int CHUNK_SIZE = 16; // Chunk width and height in tiles
+
+    private final SpriteCache cache;
+    private final OrthogonalTiledMapRenderer fallback;
+    private final Array<LayerChunks> layers;
+    private final Rectangle viewBounds;
+
+    /**
+     * The baked chunks of a single layer, in drawing order.
+     * A layer that could not be baked has no chunks and is drawn by the fallback renderer.
+     */
+    private static class LayerChunks {
+        final int layerIndex;
+        final boolean cached;
+        final TiledMapTileLayer layer;
+        final Array<Chunk> chunks = new Array<>();
+
+        LayerChunks(int layerIndex, TiledMapTileLayer layer, boolean cached) {
+            this.layerIndex = layerIndex;
+            this.layer = layer;
+            this.cached = cached;
+        }
+    }
+
+    private static class Chunk {
+        final int cacheId;
+        final Rectangle bounds;
+
+        Chunk(int cacheId, Rectangle bounds) {
+            this.cacheId = cacheId;
+            this.bounds = bounds;
+        }
+    }
+
+    /**
+     * Bakes every static tile layer of the map.
+     *
+     * @param map The map to draw
+     * @param fallback The renderer used for layers that cannot be baked, sharing the same unit scale
+     */
+    public StaticLayerRenderer(TiledMap map, OrthogonalTiledMapRenderer fallback) {
+        this.fallback = fallback;
+        this.layers = new Array<>();
+        this.viewBounds = new Rectangle();
+
+        MapLayers mapLayers = map.getLayers();
+        int tileCount = 0;
+        for (int i = 0; i < mapLayers.getCount(); i++) {
+            MapLayer layer = mapLayers.get(i);
+            if (!(layer instanceof TiledMapTileLayer)) {
+                continue;
+            }
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            boolean cached = isStatic(tileLayer);
+            layers.add(new LayerChunks(i, tileLayer, cached));
+            if (cached) {
+                tileCount += countTiles(tileLayer);
+            }
+        }
+
+        // Indices would limit the cache to 8191 tiles, which large maps exceed
+        cache = new SpriteCache(Math.max(1, tileCount), false);
+        for (LayerChunks layer : layers) {
+            if (layer.cached) {
+                bakeLayer(layer, fallback.getUnitScale());
+            }
+        }
+    }
+
+    /**
+     * Draws every visible layer, skipping chunks outside the camera's view.
+     *
+     * @param camera The camera the map is viewed through
+     */
+    public void render(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+
+        for (LayerChunks layer : layers) {
+            if (!layer.layer.isVisible()) {
+                continue;
+            }
+            if (!layer.cached) {
+                fallback.setView(camera);
+                fallback.render(new int[] {layer.layerIndex});
+                continue;
+            }
+
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            cache.setProjectionMatrix(camera.combined);
+            cache.begin();
+            for (Chunk chunk : layer.chunks) {
+                if (chunk.bounds.overlaps(viewBounds)) {
+                    cache.draw(chunk.cacheId);
+                }
+            }
+            cache.end();
+            Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
+    }
+
+    /**
+     * A layer can be baked unless it contains animated tiles.
+     */
+    private static boolean isStatic(TiledMapTileLayer layer) {
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bakes one layer into chunks. Chunks and the tiles inside them are added from the top row down,
+     * matching the order the tile renderer draws in, so tiles taller than a cell overlap correctly.
+     */
+    private void bakeLayer(LayerChunks layerChunks, float unitScale) {
+        TiledMapTileLayer layer = layerChunks.layer;
+        float tileWidth = layer.getTileWidth() * unitScale;
+        float tileHeight = layer.getTileHeight() * unitScale;
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        float offsetY = -layer.getRenderOffsetY() * unitScale;
+        cache.setColor(1, 1, 1, layer.getOpacity());
+
+        int chunksX = (layer.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int chunksY = (layer.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int chunkY = chunksY - 1; chunkY >= 0; chunkY--) {
+            for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                Rectangle bounds = null;
+                cache.beginCache();
+
+                int startRow = Math.min(layer.getHeight(), (chunkY + 1) * CHUNK_SIZE) - 1;
+                int endColumn = Math.min(layer.getWidth(), (chunkX + 1) * CHUNK_SIZE);
+                for (int row = startRow; row >= chunkY * CHUNK_SIZE; row--) {
+                    for (int column = chunkX * CHUNK_SIZE; column < endColumn; column++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(column, row);
+                        if (cell == null || cell.getTile() == null) {
+                            continue;
+                        }
+                        TiledMapTile tile = cell.getTile();
+                        float x = column * tileWidth + tile.getOffsetX() * unitScale + offsetX;
+                        float y = row * tileHeight + tile.getOffsetY() * unitScale + offsetY;
+                        Rectangle tileBounds = addTile(cache, cell, x, y, unitScale);
+                        bounds = bounds == null ? tileBounds : bounds.merge(tileBounds);
+                    }
+                }
+
+                int cacheId = cache.endCache();
+                if (bounds != null) {
+                    layerChunks.chunks.add(new Chunk(cacheId, bounds));
+                }
+            }
+        }
+        cache.setColor(1, 1, 1, 1);
+    }
+
+    /**
+     * Adds a single cell to the cache being built, applying its flip and rotation.
+     *
+     * @return The area covered by the tile
+     */
+    static Rectangle addTile(SpriteCache cache, TiledMapTileLayer.Cell cell, float x, float y, float unitScale) {
+        TextureRegion region = cell.getTile().getTextureRegion();
+        if (cell.getFlipHorizontally() || cell.getFlipVertically()) {
+            region = new TextureRegion(region);
+            region.flip(cell.getFlipHorizontally(), cell.getFlipVertically());
+        }
+        float width = region.getRegionWidth() * unitScale;
+        float height = region.getRegionHeight() * unitScale;
+        float rotation = cell.getRotation() * 90;
+
+        cache.add(region, x, y, width / 2, height / 2, width, height, 1, 1, rotation);
+
+        if (cell.getRotation() % 2 == 0) {
+            return new Rectangle(x, y, width, height);
+        }
+        // A quarter turn swaps the tile's width and height around its centre
+        return new Rectangle(x + (width - height) / 2, y + (height - width) / 2, height, width);
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
@@ -0,0 +1,84 @@
+package com.UniSim.game.Map;
+
+import com.UniSim.game.GameAssets;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * StreamedMap ties together everything needed to play on a {@link ChunkedMap}: the streamer keeping
+ * the chunks around the camera in memory, the renderer drawing them and the physics bodies of
+ * their objects.
+ */
+public class StreamedMap implements Disposable {
+
+    // 64 chunks of 32x32 tiles covers a 256x256 tile area around the camera
+    private static final int MAX_RESIDENT_CHUNKS = 64;
+
+    private final ChunkedMap map;
+    private final TiledMap skeleton;
+    private final float unitScale;
+    private final ChunkStreamer streamer;
+    private final StreamedMapRenderer renderer;
+
+    /**
+     * @param path The internal path of the chunked map's folder
+     * @param world The physics world to create the map's bodies in
+     * @param unitScale The number of world units per map pixel
+     */
+    public StreamedMap(String path, World world, float unitScale) {
+        this.map = new ChunkedMap(path);
+        this.skeleton = GameAssets.map(map.getSkeleton().path());
+        this.unitScale = unitScale;
+        this.renderer = new StreamedMapRenderer(map, skeleton, unitScale);
+        this.streamer = new ChunkStreamer(map, unitScale, MAX_RESIDENT_CHUNKS);
+        streamer.addListener(renderer);
+        streamer.addListener(new StreamedMapBodies(map, world, unitScale));
+    }
+
+    /**
+     * Streams chunks in and out around the camera. Call once per frame, outside of the physics step.
+     */
+    public void update(OrthographicCamera camera) {
+        streamer.update(camera);
+    }
+
+    public void render(OrthographicCamera camera) {
+        renderer.render(camera);
+    }
+
+    /**
+     * @return The index of the streamed map, holding its size, layers and objects
+     */
+    public ChunkedMap getChunkedMap() {
+        return map;
+    }
+
+    /**
+     * @return The map holding the tilesets and empty layers of the streamed map
+     */
+    public TiledMap getTiledMap() {
+        return skeleton;
+    }
+
+    /**
+     * @return The width of the whole map in world units
+     */
+    public float getWidth() {
+        return map.getWidth() * map.getTileWidth() * unitScale;
+    }
+
+    /**
+     * @return The height of the whole map in world units
+     */
+    public float getHeight() {
+        return map.getHeight() * map.getTileHeight() * unitScale;
+    }
+
+    @Override
+    public void dispose() {
+        streamer.dispose();
+        renderer.dispose();
+    }
+}
@@ -0,0 +1,88 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+/**
+ * StreamedMapBodies creates the collision and sensor fixtures of a {@link ChunkedMap} as its chunks
+ * are streamed in, using the layers named by {@link MapSchema}, and destroys them when the chunks
+ * are evicted. Each chunk gets a single static body holding all of its fixtures.
+ */
+public class StreamedMapBodies implements ChunkStreamer.Listener {
+
+    private final World world;
+    private final float unitScale;
+    private final boolean[] collision;
+    private final boolean[] sensor;
+    private final LongMap<Body> bodies;
+
+    /**
+     * @param map The chunked map the bodies are created for
+     * @param world The physics world to create the bodies in
+     * @param unitScale The number of world units per map pixel
+     */
+    public StreamedMapBodies(ChunkedMap map, World world, float unitScale) {
+        this.world = world;
+        this.unitScale = unitScale;
+        String[] layers = map.getObjectLayers();
+        this.collision = new boolean[layers.length];
+        this.sensor = new boolean[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            collision[i] = Arrays.asList(MapSchema.COLLISION_LAYERS).contains(layers[i]);
+            sensor[i] = Arrays.asList(MapSchema.SENSOR_LAYERS).contains(layers[i]);
+        }
+        this.bodies = new LongMap<>();
+    }
+
+    @Override
+    public void chunkLoaded(MapChunk chunk) {
+        Body body = null;
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fdef = new FixtureDef();
+        Vector2 centre = new Vector2();
+
+        for (int i = 0; i < chunk.getObjectCount(); i++) {
+            int layer = chunk.getObjectLayer(i);
+            if (!collision[layer] && !sensor[layer]) {
+                continue;
+            }
+            if (body == null) {
+                BodyDef bdef = new BodyDef();
+                bdef.type = BodyDef.BodyType.StaticBody;
+                body = world.createBody(bdef);
+            }
+
+            Rectangle rect = chunk.getObject(i);
+            rect.getCenter(centre).scl(unitScale);
+            shape.setAsBox(rect.width / 2 * unitScale, rect.height / 2 * unitScale, centre, 0);
+            fdef.shape = shape;
+            fdef.isSensor = sensor[layer];
+            Fixture fixture = body.createFixture(fdef);
+            if (sensor[layer]) {
+                fixture.setUserData("sensor");
+            }
+        }
+        shape.dispose();
+
+        if (body != null) {
+            bodies.put(chunk.getKey(), body);
+        }
+    }
+
+    @Override
+    public void chunkEvicted(MapChunk chunk) {
+        Body body = bodies.remove(chunk.getKey());
+        if (body != null) {
+            world.destroyBody(body);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Comparator;
+
+/**
+ * StreamedMapRenderer draws the tile layers of a {@link ChunkedMap}. Every chunk brought into memory
+ * by the {@link ChunkStreamer} is baked into its own SpriteCache, so only the chunks near the camera
+ * ever hold any geometry. Caches are sized for a full chunk and kept for the next chunk when theirs
+ * is evicted, and they all share one shader, so streaming never compiles shaders or allocates meshes
+ * once the resident chunks have been created.
+ * <p>
+ * A chunk whose tiles all stay inside its own area, and which no neighbouring tile reaches into, is
+ * drawn with all of its layers at once. Only chunks that tiles overlap across are drawn layer by
+ * layer across each other, the way the tile renderer would.
+ */
+public class StreamedMapRenderer implements ChunkStreamer.Listener, Disposable {
+
+    // Flags Tiled stores in the top bits of a tile id
+    private static final int FLIP_HORIZONTALLY = 0x80000000;
+    private static final int FLIP_VERTICALLY = 0x40000000;
+    private static final int FLIP_DIAGONALLY = 0x20000000;
+    private static final int TILE_ID_MASK = ~(FLIP_HORIZONTALLY | FLIP_VERTICALLY | FLIP_DIAGONALLY);
+
+    // Chunks are drawn from the top of the map down, matching the tile renderer's order
+    private static final Comparator<ChunkCache> DRAW_ORDER = (a, b) ->
+        a.chunkY != b.chunkY ? Integer.compare(b.chunkY, a.chunkY) : Integer.compare(a.chunkX, b.chunkX);
+
+    private final ChunkedMap map;
+    private final TiledMapTileSets tileSets;
+    private final MapLayer[] layers;
+    private final float unitScale;
+
+    private final ShaderProgram shader;
+    private final int cacheSize;
+    private final LongMap<ChunkCache> caches;
+    private final Array<SpriteCache> spareCaches;
+    private final Array<ChunkCache> visible;
+    private final Array<ChunkCache> spilling;
+    private final Array<ChunkCache> layered;
+    private final Rectangle viewBounds;
+
+    /**
+     * The geometry of one chunk, with a separate cache for each layer so layers can be drawn in
+     * order across neighbouring chunks.
+     */
+    private static class ChunkCache {
+        final int chunkX;
+        final int chunkY;
+        final SpriteCache cache;
+        final int[] layerIds;
+        final Rectangle[] layerBounds;
+        final Rectangle area; // The chunk's own cells
+        Rectangle bounds; // Everything the chunk draws, null if it draws nothing
+        boolean spills; // Whether any tile reaches outside the chunk's own cells
+
+        ChunkCache(int chunkX, int chunkY, SpriteCache cache, int layerCount, Rectangle area) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.cache = cache;
+            this.layerIds = new int[layerCount];
+            this.layerBounds = new Rectangle[layerCount];
+            this.area = area;
+        }
+    }
+
+    /**
+     * @param map The chunked map being drawn
+     * @param skeleton The map's skeleton, providing its tilesets and layer settings
+     * @param unitScale The number of world units per map pixel
+     */
+    public StreamedMapRenderer(ChunkedMap map, TiledMap skeleton, float unitScale) {
+        this.map = map;
+        this.tileSets = skeleton.getTileSets();
+        this.unitScale = unitScale;
+        this.layers = new MapLayer[map.getTileLayers().length];
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = skeleton.getLayers().get(map.getTileLayers()[i]);
+        }
+        this.shader = createShader();
+        // Indices would limit a cache to 8191 tiles, which a full chunk of several layers can exceed
+        this.cacheSize = map.getChunkSize() * map.getChunkSize() * layers.length;
+        this.caches = new LongMap<>();
+        this.spareCaches = new Array<>();
+        this.visible = new Array<>();
+        this.spilling = new Array<>();
+        this.layered = new Array<>();
+        this.viewBounds = new Rectangle();
+    }
+
+    /**
+     * Creates the shader every chunk's cache draws with, the same as SpriteCache's own.
+     */
+    private static ShaderProgram createShader() {
+        String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "uniform mat4 u_projectionViewMatrix;\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "void main() {\n"
+            + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "    v_color.a = v_color.a * (255.0 / 254.0);\n"
+            + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "    gl_Position = u_projectionViewMatrix * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+        String fragmentShader = "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "void main() {\n"
+            + "    gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n"
+            + "}\n";
+        ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+        if (!shader.isCompiled()) {
+            throw new RuntimeException("Could not compile the map shader: " + shader.getLog());
+        }
+        return shader;
+    }
+
+    @Override
+    public void chunkLoaded(MapChunk chunk) {
+        int tileCount = 0;
+        for (int layer = 0; layer < chunk.getLayerCount(); layer++) {
+            for (int row = 0; row < chunk.getSize(); row++) {
+                for (int column = 0; column < chunk.getSize(); column++) {
+                    if (chunk.getTile(layer, column, row) != 0) {
+                        tileCount++;
+                    }
+                }
+            }
+        }
+        if (tileCount == 0) {
+            return;
+        }
+
+        SpriteCache cache = spareCaches.isEmpty() ? new SpriteCache(cacheSize, shader, false) : spareCaches.pop();
+        float tileWidth = map.getTileWidth() * unitScale;
+        float tileHeight = map.getTileHeight() * unitScale;
+        int firstColumn = chunk.getChunkX() * chunk.getSize();
+        int firstRow = chunk.getChunkY() * chunk.getSize();
+        Rectangle area = new Rectangle(firstColumn * tileWidth, firstRow * tileHeight,
+            chunk.getSize() * tileWidth, chunk.getSize() * tileHeight);
+        ChunkCache chunkCache = new ChunkCache(chunk.getChunkX(), chunk.getChunkY(), cache, chunk.getLayerCount(), area);
+
+        for (int layer = 0; layer < chunk.getLayerCount(); layer++) {
+            float opacity = layers[layer] == null ? 1 : layers[layer].getOpacity();
+            cache.setColor(1, 1, 1, opacity);
+            cache.beginCache();
+            Rectangle bounds = null;
+            for (int row = chunk.getSize() - 1; row >= 0; row--) {
+                for (int column = 0; column < chunk.getSize(); column++) {
+                    TiledMapTileLayer.Cell cell = createCell(chunk.getTile(layer, column, row));
+                    if (cell == null) {
+                        continue;
+                    }
+                    TiledMapTile tile = cell.getTile();
+                    float x = (firstColumn + column) * tileWidth + tile.getOffsetX() * unitScale;
+                    float y = (firstRow + row) * tileHeight + tile.getOffsetY() * unitScale;
+                    Rectangle tileBounds = StaticLayerRenderer.addTile(cache, cell, x, y, unitScale);
+                    bounds = bounds == null ? tileBounds : bounds.merge(tileBounds);
+                    chunkCache.spills |= !fitsCell(cell);
+                }
+            }
+            chunkCache.layerIds[layer] = cache.endCache();
+            chunkCache.layerBounds[layer] = bounds;
+            if (bounds != null) {
+                chunkCache.bounds = chunkCache.bounds == null ? new Rectangle(bounds) : chunkCache.bounds.merge(bounds);
+            }
+        }
+        caches.put(chunk.getKey(), chunkCache);
+    }
+
+    /**
+     * Checks in whole map pixels, so rounding cannot matter, whether a tile is drawn inside its cell.
+     */
+    private boolean fitsCell(TiledMapTileLayer.Cell cell) {
+        TiledMapTile tile = cell.getTile();
+        int width = tile.getTextureRegion().getRegionWidth();
+        int height = tile.getTextureRegion().getRegionHeight();
+        if (cell.getRotation() % 2 != 0 && width != height) {
+            return false; // A quarter turn moves a non-square tile around its centre
+        }
+        return tile.getOffsetX() == 0 && tile.getOffsetY() == 0
+            && width <= map.getTileWidth() && height <= map.getTileHeight();
+    }
+
+    @Override
+    public void chunkEvicted(MapChunk chunk) {
+        ChunkCache chunkCache = caches.remove(chunk.getKey());
+        if (chunkCache != null) {
+            chunkCache.cache.clear();
+            spareCaches.add(chunkCache.cache);
+        }
+    }
+
+    /**
+     * Turns a tile id from a chunk into a cell, the same way the tmx loader does.
+     *
+     * @return The cell, or null if the id is empty or not in any tileset
+     */
+    private TiledMapTileLayer.Cell createCell(int id) {
+        if (id == 0) {
+            return null;
+        }
+        TiledMapTile tile = tileSets.getTile(id & TILE_ID_MASK);
+        if (tile == null) {
+            return null;
+        }
+        boolean flipHorizontally = (id & FLIP_HORIZONTALLY) != 0;
+        boolean flipVertically = (id & FLIP_VERTICALLY) != 0;
+        boolean flipDiagonally = (id & FLIP_DIAGONALLY) != 0;
+
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(tile);
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+
+    /**
+     * Draws the chunks in memory that intersect the camera's view.
+     *
+     * @param camera The camera the map is viewed through
+     */
+    public void render(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+
+        visible.clear();
+        spilling.clear();
+        for (ChunkCache chunkCache : caches.values()) {
+            if (chunkCache.bounds != null && chunkCache.bounds.overlaps(viewBounds)) {
+                visible.add(chunkCache);
+                if (chunkCache.spills) {
+                    spilling.add(chunkCache);
+                }
+            }
+        }
+        visible.sort(DRAW_ORDER);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        layered.clear();
+        for (ChunkCache chunkCache : visible) {
+            if (isSeparate(chunkCache)) {
+                // Nothing else draws over this chunk, so its layers need not wait for its neighbours'
+                drawLayers(chunkCache, camera, 0, layers.length);
+            } else {
+                layered.add(chunkCache);
+            }
+        }
+        for (int layer = 0; layer < layers.length; layer++) {
+            for (ChunkCache chunkCache : layered) {
+                drawLayers(chunkCache, camera, layer, layer + 1);
+            }
+        }
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * @return true if the chunk only draws inside its own cells and no visible chunk draws into them
+     */
+    private boolean isSeparate(ChunkCache chunkCache) {
+        if (chunkCache.spills) {
+            return false;
+        }
+        for (ChunkCache other : spilling) {
+            if (other.bounds.overlaps(chunkCache.area)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws a range of a chunk's layers that are visible and in view, beginning its cache only if
+     * any of them are.
+     */
+    private void drawLayers(ChunkCache chunkCache, OrthographicCamera camera, int firstLayer, int endLayer) {
+        boolean drawing = false;
+        for (int layer = firstLayer; layer < endLayer; layer++) {
+            if (layers[layer] != null && !layers[layer].isVisible()) {
+                continue;
+            }
+            Rectangle bounds = chunkCache.layerBounds[layer];
+            if (bounds == null || !bounds.overlaps(viewBounds)) {
+                continue;
+            }
+            if (!drawing) {
+                chunkCache.cache.setProjectionMatrix(camera.combined);
+                chunkCache.cache.begin();
+                drawing = true;
+            }
+            chunkCache.cache.draw(chunkCache.layerIds[layer]);
+        }
+        if (drawing) {
+            chunkCache.cache.end();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (ChunkCache chunkCache : caches.values()) {
+            chunkCache.cache.dispose();
+        }
+        for (SpriteCache cache : spareCaches) {
+            cache.dispose();
+        }
+        caches.clear();
+        spareCaches.clear();
+        // Deleting a program twice does nothing, so this is safe whether or not the caches released it
+        shader.dispose();
+    }
+}
@@ -0,0 +1,144 @@
+package com.UniSim.game.Map;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * WaterDistance holds the distance from every cell of the map to the nearest water, worked out once
+ * when the map is loaded, so finding how far a spot is from a lake is a single array lookup however
+ * many lakes the map has.
+ *
+ * Distances are straight-line distances between cell centres, found with the exact Euclidean distance
+ * transform of Felzenszwalb and Huttenlocher: one pass along every row, then one along every column,
+ * each linear in the length of the line. A cell counts as water if a lake overlaps any part of it.
+ */
+public class WaterDistance {
+
+    private final int width;
+    private final int height;
+    private final float cellSize;
+    private final float[] distances; // In world units, infinite if the map has no water
+
+    /**
+     * Works out the distance to water for every cell of a map.
+     *
+     * @param schema The map's areas, including its lakes
+     * @param mapWidth The width of the map in world units
+     * @param mapHeight The height of the map in world units
+     * @param cellSize The width and height of a cell in world units
+     */
+    public WaterDistance(MapSchema schema, float mapWidth, float mapHeight, float cellSize) {
+        this.width = MathUtils.ceil(mapWidth / cellSize);
+        this.height = MathUtils.ceil(mapHeight / cellSize);
+        this.cellSize = cellSize;
+        this.distances = new float[width * height];
+
+        // Squared distances in cells, starting at 0 on water and infinity everywhere else
+        float[] squared = new float[width * height];
+        Arrays.fill(squared, Float.POSITIVE_INFINITY);
+        for (Rectangle rect : schema.getWater()) {
+            int startColumn = Math.max(0, (int) Math.floor(rect.x / cellSize));
+            int startRow = Math.max(0, (int) Math.floor(rect.y / cellSize));
+            int endColumn = Math.min(width, (int) Math.ceil((rect.x + rect.width) / cellSize));
+            int endRow = Math.min(height, (int) Math.ceil((rect.y + rect.height) / cellSize));
+            for (int y = startRow; y < endRow; y++) {
+                Arrays.fill(squared, y * width + startColumn, y * width + Math.max(startColumn, endColumn), 0);
+            }
+        }
+
+        int longest = Math.max(width, height);
+        float[] line = new float[longest];
+        float[] result = new float[longest];
+        int[] parabolas = new int[longest];
+        float[] bounds = new float[longest + 1];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(squared, y * width, line, 0, width);
+            transform(line, width, result, parabolas, bounds);
+            System.arraycopy(result, 0, squared, y * width, width);
+        }
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                line[y] = squared[y * width + x];
+            }
+            transform(line, height, result, parabolas, bounds);
+            for (int y = 0; y < height; y++) {
+                distances[y * width + x] = (float) Math.sqrt(result[y]) * cellSize;
+            }
+        }
+    }
+
+    /**
+     * The one-dimensional squared distance transform: for every position, the smallest of
+     * {@code (position - i)^2 + line[i]}, found from the lower envelope of the parabolas rooted at each i.
+     */
+    private static void transform(float[] line, int length, float[] result, int[] parabolas, float[] bounds) {
+        int count = -1;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == Float.POSITIVE_INFINITY) {
+                continue;
+            }
+            // Drop parabolas the new one lies entirely below from their boundary onwards
+            float intersection = Float.NEGATIVE_INFINITY;
+            while (count >= 0) {
+                int last = parabolas[count];
+                intersection = ((line[i] + i * i) - (line[last] + last * last)) / (2f * (i - last));
+                if (intersection > bounds[count]) {
+                    break;
+                }
+                count--;
+            }
+            count++;
+            parabolas[count] = i;
+            bounds[count] = count == 0 ? Float.NEGATIVE_INFINITY : intersection;
+        }
+
+        if (count < 0) {
+            Arrays.fill(result, 0, length, Float.POSITIVE_INFINITY);
+            return;
+        }
+        bounds[count + 1] = Float.POSITIVE_INFINITY;
+        int parabola = 0;
+        for (int i = 0; i < length; i++) {
+            while (bounds[parabola + 1] < i) {
+                parabola++;
+            }
+            int root = parabolas[parabola];
+            result[i] = (i - root) * (i - root) + line[root];
+        }
+    }
+
+    /**
+     * @return The distance in world units from the cell containing a point to the nearest water, or
+     *         infinity if the map has none. Points off the map use the nearest cell on it
+     */
+    public float getDistance(float worldX, float worldY) {
+        int x = MathUtils.clamp((int) Math.floor(worldX / cellSize), 0, width - 1);
+        int y = MathUtils.clamp((int) Math.floor(worldY / cellSize), 0, height - 1);
+        return distances[y * width + x];
+    }
+
+    /**
+     * @return The distance in world units from the edge of an area to the nearest water, 0 if it borders
+     *         or overlaps water and infinity if the map has none. The nearest water to an area is always
+     *         nearest to one of its edge cells, so only those are looked up
+     */
+    public float getDistance(float worldX, float worldY, float areaWidth, float areaHeight) {
+        int startX = MathUtils.clamp((int) Math.floor(worldX / cellSize), 0, width - 1);
+        int startY = MathUtils.clamp((int) Math.floor(worldY / cellSize), 0, height - 1);
+        // The cells the area's far edges lie on, not the ones beyond when it ends on a cell boundary
+        int endX = MathUtils.clamp((int) Math.ceil((worldX + areaWidth) / cellSize) - 1, startX, width - 1);
+        int endY = MathUtils.clamp((int) Math.ceil((worldY + areaHeight) / cellSize) - 1, startY, height - 1);
+
+        float nearest = Float.POSITIVE_INFINITY;
+        for (int x = startX; x <= endX; x++) {
+            nearest = Math.min(nearest, Math.min(distances[startY * width + x], distances[endY * width + x]));
+        }
+        for (int y = startY + 1; y < endY; y++) {
+            nearest = Math.min(nearest, Math.min(distances[y * width + startX], distances[y * width + endX]));
+        }
+        // Distances run between cell centres, so a cell next to water is one cell from it but touches it
+        return Math.max(0, nearest - cellSize);
+    }
+}
@@ -0,0 +1,239 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * A FlowField tells anyone anywhere on the grid which way to step to reach one destination, the
+ * walkable cells around a building. It is built with a single Dijkstra search outwards from the
+ * destination, after which steering any number of walkers towards it is one array lookup each,
+ * instead of an A* search per walker.
+ *
+ * Moves follow the same rules as {@link GridGraph}: eight directions, no cutting corners. Blocked
+ * cells next to a reachable cell point into it, so walkers caught on a newly placed building can
+ * step off it. Fields are rebuilt by their {@link FlowFieldCache} when the grid changes.
+ */
+public class FlowField {
+
+    // Returned for cells that are part of the destination
+    public static final int GOAL = 8;
+    // Returned for cells the destination cannot be reached from
+    public static final int NONE = -1;
+
+    // Direction offsets, orthogonal directions first
+    public static final int[] DIRECTION_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    public static final int[] DIRECTION_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final OccupancyGrid grid;
+    private final Rectangle area;
+    private final float[] distances;
+    private final byte[] directions;
+    private int version = -1;
+
+    // Binary heap of cells still to visit, ordered by distance. Cells are pushed again rather than
+    // moved up when a shorter distance is found, and outdated entries are skipped when popped
+    private int[] heapCells;
+    private float[] heapDistances;
+    private int heapSize;
+
+    /**
+     * @param grid The grid to walk over
+     * @param area The destination's area in world units; the walkable cells around it are the goal
+     */
+    FlowField(OccupancyGrid grid, Rectangle area) {
+        this.grid = grid;
+        this.area = new Rectangle(area);
+        this.distances = new float[grid.getWidth() * grid.getHeight()];
+        this.directions = new byte[distances.length];
+        this.heapCells = new int[64];
+        this.heapDistances = new float[64];
+    }
+
+    /**
+     * @return true if the grid has changed since the field was built
+     */
+    public boolean isStale() {
+        return version != grid.getVersion();
+    }
+
+    /**
+     * Rebuilds the field from the current grid.
+     */
+    void build() {
+        version = grid.getVersion();
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        Arrays.fill(directions, (byte) NONE);
+        heapSize = 0;
+
+        int width = grid.getWidth();
+        int startColumn = (int) Math.floor(area.x / grid.getCellSize());
+        int startRow = (int) Math.floor(area.y / grid.getCellSize());
+        int endColumn = (int) Math.ceil((area.x + area.width) / grid.getCellSize());
+        int endRow = (int) Math.ceil((area.y + area.height) / grid.getCellSize());
+        for (int y = startRow - 1; y <= endRow; y++) {
+            for (int x = startColumn - 1; x <= endColumn; x++) {
+                boolean ring = x < startColumn || x >= endColumn || y < startRow || y >= endRow;
+                if (ring && grid.isWalkable(x, y)) {
+                    int cell = y * width + x;
+                    distances[cell] = 0;
+                    directions[cell] = GOAL;
+                    push(cell, 0);
+                }
+            }
+        }
+
+        while (heapSize > 0) {
+            int cell = heapCells[0];
+            float distance = heapDistances[0];
+            pop();
+            if (distance > distances[cell]) {
+                continue;
+            }
+            int x = cell % width;
+            int y = cell / width;
+            // Walkers step the opposite way to the search, from each neighbour back into this cell
+            for (int i = 0; i < DIRECTION_X.length; i++) {
+                int nx = x + DIRECTION_X[i];
+                int ny = y + DIRECTION_Y[i];
+                if (!canMove(nx, ny, x, y)) {
+                    continue;
+                }
+                boolean diagonal = DIRECTION_X[i] != 0 && DIRECTION_Y[i] != 0;
+                float next = distance + (diagonal ? GridGraph.DIAGONAL_COST : 1);
+                int neighbour = ny * width + nx;
+                if (next < distances[neighbour]) {
+                    distances[neighbour] = next;
+                    directions[neighbour] = (byte) opposite(i);
+                    push(neighbour, next);
+                }
+            }
+        }
+
+        pointBlockedCells();
+    }
+
+    private boolean canMove(int fromX, int fromY, int toX, int toY) {
+        if (!grid.isWalkable(fromX, fromY) || !grid.isWalkable(toX, toY)) {
+            return false;
+        }
+        return fromX == toX || fromY == toY || (grid.isWalkable(fromX, toY) && grid.isWalkable(toX, fromY));
+    }
+
+    private static int opposite(int direction) {
+        for (int i = 0; i < DIRECTION_X.length; i++) {
+            if (DIRECTION_X[i] == -DIRECTION_X[direction] && DIRECTION_Y[i] == -DIRECTION_Y[direction]) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown direction " + direction);
+    }
+
+    /**
+     * Points each blocked cell at its closest reachable orthogonal neighbour, if it has one.
+     */
+    private void pointBlockedCells() {
+        int width = grid.getWidth();
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                if (grid.isWalkable(x, y)) {
+                    continue;
+                }
+                float best = Float.POSITIVE_INFINITY;
+                for (int i = 0; i < 4; i++) {
+                    int nx = x + DIRECTION_X[i];
+                    int ny = y + DIRECTION_Y[i];
+                    if (grid.isWalkable(nx, ny) && distances[ny * width + nx] < best) {
+                        best = distances[ny * width + nx];
+                        directions[y * width + x] = (byte) i;
+                    }
+                }
+            }
+        }
+    }
+
+    private void push(int cell, float distance) {
+        if (heapSize == heapCells.length) {
+            heapCells = Arrays.copyOf(heapCells, heapSize * 2);
+            heapDistances = Arrays.copyOf(heapDistances, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heapDistances[parent] <= distance) {
+                break;
+            }
+            heapCells[i] = heapCells[parent];
+            heapDistances[i] = heapDistances[parent];
+            i = parent;
+        }
+        heapCells[i] = cell;
+        heapDistances[i] = distance;
+    }
+
+    private void pop() {
+        int cell = heapCells[--heapSize];
+        float distance = heapDistances[heapSize];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapDistances[child + 1] < heapDistances[child]) {
+                child++;
+            }
+            if (heapDistances[child] >= distance) {
+                break;
+            }
+            heapCells[i] = heapCells[child];
+            heapDistances[i] = heapDistances[child];
+            i = child;
+        }
+        heapCells[i] = cell;
+        heapDistances[i] = distance;
+    }
+
+    /**
+     * Finds which way to step from a point.
+     *
+     * @param worldX The world x coordinate
+     * @param worldY The world y coordinate
+     * @return An index into {@link #DIRECTION_X} and {@link #DIRECTION_Y}, {@link #GOAL} if the point
+     *         is at the destination, or {@link #NONE} if the destination cannot be reached from it
+     */
+    public int getDirection(float worldX, float worldY) {
+        int x = grid.toCellX(worldX);
+        int y = grid.toCellY(worldY);
+        if (!grid.contains(x, y)) {
+            return NONE;
+        }
+        return directions[y * grid.getWidth() + x];
+    }
+
+    /**
+     * @return The walking distance from a point to the destination in cells, infinite if it cannot be reached
+     */
+    public float getDistance(float worldX, float worldY) {
+        int x = grid.toCellX(worldX);
+        int y = grid.toCellY(worldY);
+        if (!grid.contains(x, y)) {
+            return Float.POSITIVE_INFINITY;
+        }
+        return distances[y * grid.getWidth() + x];
+    }
+
+    /**
+     * @return The world x coordinate of the centre of the cell one step from a point in a direction
+     */
+    public float getStepX(float worldX, int direction) {
+        return grid.toWorldX(grid.toCellX(worldX) + DIRECTION_X[direction]);
+    }
+
+    /**
+     * @return The world y coordinate of the centre of the cell one step from a point in a direction
+     */
+    public float getStepY(float worldY, int direction) {
+        return grid.toWorldY(grid.toCellY(worldY) + DIRECTION_Y[direction]);
+    }
+}
@@ -0,0 +1,64 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * FlowFieldCache keeps one {@link FlowField} per destination, so everyone heading to the same
+ * building shares a single field. Fields are keyed by the cells the destination covers. When the
+ * grid changes, for instance because a building was placed, the fields are rebuilt on the next
+ * {@link #update()} instead of being thrown away, so anyone holding one keeps a valid field.
+ */
+public class FlowFieldCache {
+
+    private final OccupancyGrid grid;
+    private final LongMap<FlowField> fields;
+
+    public FlowFieldCache(OccupancyGrid grid) {
+        this.grid = grid;
+        this.fields = new LongMap<>();
+    }
+
+    /**
+     * Returns the flow field towards an area, building it the first time the area is asked for.
+     *
+     * @param area The destination's area in world units
+     * @return The field, up to date with the grid
+     */
+    public FlowField get(Rectangle area) {
+        long key = key(area);
+        FlowField field = fields.get(key);
+        if (field == null) {
+            field = new FlowField(grid, area);
+            fields.put(key, field);
+        }
+        if (field.isStale()) {
+            field.build();
+        }
+        return field;
+    }
+
+    /**
+     * Rebuilds every field made out of date by a change to the grid.
+     */
+    public void update() {
+        for (FlowField field : fields.values()) {
+            if (field.isStale()) {
+                field.build();
+            }
+        }
+    }
+
+    public int size() {
+        return fields.size;
+    }
+
+    private long key(Rectangle area) {
+        float cellSize = grid.getCellSize();
+        long startColumn = (int) Math.floor(area.x / cellSize) & 0xFFFF;
+        long startRow = (int) Math.floor(area.y / cellSize) & 0xFFFF;
+        long endColumn = (int) Math.ceil((area.x + area.width) / cellSize) & 0xFFFF;
+        long endRow = (int) Math.ceil((area.y + area.height) / cellSize) & 0xFFFF;
+        return startColumn << 48 | startRow << 32 | endColumn << 16 | endRow;
+    }
+}
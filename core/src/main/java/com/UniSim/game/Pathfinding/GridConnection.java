@@ -0,0 +1,34 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+
+/**
+ * A move between two neighbouring cells, costing 1 straight across and sqrt(2) diagonally.
+ */
+class GridConnection implements Connection<GridNode> {
+
+    private final GridNode from;
+    private final GridNode to;
+    private final float cost;
+
+    GridConnection(GridNode from, GridNode to, float cost) {
+        this.from = from;
+        this.to = to;
+        this.cost = cost;
+    }
+
+    @Override
+    public float getCost() {
+        return cost;
+    }
+
+    @Override
+    public GridNode getFromNode() {
+        return from;
+    }
+
+    @Override
+    public GridNode getToNode() {
+        return to;
+    }
+}
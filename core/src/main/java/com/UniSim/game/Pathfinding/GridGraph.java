@@ -0,0 +1,110 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * GridGraph turns an {@link OccupancyGrid} into a graph for gdx-ai's pathfinders. Every walkable
+ * cell connects to its eight neighbours, except that diagonal moves are only allowed when both
+ * cells beside the diagonal are walkable too, so paths never cut the corners of obstacles.
+ * When part of the grid changes, only the connections around the changed cells are rebuilt.
+ */
+public class GridGraph implements IndexedGraph<GridNode> {
+
+    public static final float DIAGONAL_COST = (float) Math.sqrt(2);
+
+    // Octile distance: the exact cost of the shortest path on an open grid
+    public static final Heuristic<GridNode> HEURISTIC = (node, end) -> {
+        int dx = Math.abs(node.x - end.x);
+        int dy = Math.abs(node.y - end.y);
+        return Math.max(dx, dy) + (DIAGONAL_COST - 1) * Math.min(dx, dy);
+    };
+
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final OccupancyGrid grid;
+    private final GridNode[] nodes;
+
+    public GridGraph(OccupancyGrid grid) {
+        this.grid = grid;
+        this.nodes = new GridNode[grid.getWidth() * grid.getHeight()];
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                int index = y * grid.getWidth() + x;
+                nodes[index] = new GridNode(x, y, index);
+            }
+        }
+        update(0, 0, grid.getWidth(), grid.getHeight());
+    }
+
+    /**
+     * Rebuilds the connections of the cells in an area, and of the cells around it.
+     *
+     * @param startX The first column that changed
+     * @param startY The first row that changed
+     * @param endX The column after the last one that changed
+     * @param endY The row after the last one that changed
+     */
+    public void update(int startX, int startY, int endX, int endY) {
+        int fromX = Math.max(0, startX - 1);
+        int fromY = Math.max(0, startY - 1);
+        int toX = Math.min(grid.getWidth(), endX + 1);
+        int toY = Math.min(grid.getHeight(), endY + 1);
+        for (int y = fromY; y < toY; y++) {
+            for (int x = fromX; x < toX; x++) {
+                connect(nodes[y * grid.getWidth() + x]);
+            }
+        }
+    }
+
+    private void connect(GridNode node) {
+        node.connections.clear();
+        if (!grid.isWalkable(node.x, node.y)) {
+            return;
+        }
+        for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+            int x = node.x + NEIGHBOUR_X[i];
+            int y = node.y + NEIGHBOUR_Y[i];
+            if (!grid.isWalkable(x, y)) {
+                continue;
+            }
+            boolean diagonal = NEIGHBOUR_X[i] != 0 && NEIGHBOUR_Y[i] != 0;
+            if (diagonal && (!grid.isWalkable(node.x, y) || !grid.isWalkable(x, node.y))) {
+                continue;
+            }
+            node.connections.add(new GridConnection(node, getNode(x, y), diagonal ? DIAGONAL_COST : 1));
+        }
+    }
+
+    /**
+     * @return The node of a cell, or null if the cell is outside the grid
+     */
+    public GridNode getNode(int x, int y) {
+        if (!grid.contains(x, y)) {
+            return null;
+        }
+        return nodes[y * grid.getWidth() + x];
+    }
+
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    @Override
+    public int getIndex(GridNode node) {
+        return node.index;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    @Override
+    public Array<Connection<GridNode>> getConnections(GridNode fromNode) {
+        return fromNode.connections;
+    }
+}
@@ -0,0 +1,34 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A cell of the {@link GridGraph}, with the connections to the neighbouring cells that can be walked to.
+ */
+public class GridNode {
+
+    final int x;
+    final int y;
+    final int index;
+    final Array<Connection<GridNode>> connections;
+
+    GridNode(int x, int y, int index) {
+        this.x = x;
+        this.y = y;
+        this.index = index;
+        this.connections = new Array<>(8);
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+}
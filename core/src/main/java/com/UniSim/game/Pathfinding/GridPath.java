@@ -0,0 +1,36 @@
+package com.UniSim.game.Pathfinding;
+
+/**
+ * A path found across the grid, stored as the world positions of the centres of the cells it passes
+ * through, from the start cell to the goal cell. Paths are shared through the path cache, so they
+ * cannot be changed once created.
+ */
+public class GridPath {
+
+    public static final GridPath NONE = new GridPath(new float[0]);
+
+    private final float[] points;
+
+    GridPath(float[] points) {
+        this.points = points;
+    }
+
+    /**
+     * @return The number of cells on the path, 0 if no path was found
+     */
+    public int getCount() {
+        return points.length / 2;
+    }
+
+    public boolean isFound() {
+        return points.length > 0;
+    }
+
+    public float getX(int index) {
+        return points[index * 2];
+    }
+
+    public float getY(int index) {
+        return points[index * 2 + 1];
+    }
+}
@@ -0,0 +1,191 @@
+package com.UniSim.game.Pathfinding;
+
+import com.UniSim.game.Map.MapSchema;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * OccupancyGrid records what covers each cell of the map, one cell per tile. It is the shared picture
+ * of the campus used for pathfinding and building placement: each cell holds flags for the map's
+ * collision, no-build and sensor areas and for placed buildings.
+ * A cell counts as covered by an area if the area overlaps any part of it.
+ */
+public class OccupancyGrid {
+
+    public static final byte COLLISION = 1;  // Blocks movement, from the map's collision layers
+    public static final byte NO_BUILD = 2;   // Only blocks building, from the map's no-build layers
+    public static final byte SENSOR = 4;     // The reception's sensor area
+    public static final byte BUILDING = 8;   // A placed building
+
+    private static final byte BLOCKS_MOVEMENT = COLLISION | BUILDING;
+
+    private final int width;
+    private final int height;
+    private final float cellSize;
+    private final byte[] cells;
+    private int version;
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param width The number of columns
+     * @param height The number of rows
+     * @param cellSize The width and height of a cell in world units
+     */
+    public OccupancyGrid(int width, int height, float cellSize) {
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.cells = new byte[width * height];
+        this.version = 0;
+    }
+
+    /**
+     * Creates a grid covering a map, with the map's areas from its schema already marked.
+     *
+     * @param schema The map's collision, no-build and sensor areas
+     * @param mapWidth The width of the map in world units
+     * @param mapHeight The height of the map in world units
+     * @param cellSize The width and height of a cell in world units
+     * @return The new grid
+     */
+    public static OccupancyGrid fromSchema(MapSchema schema, float mapWidth, float mapHeight, float cellSize) {
+        OccupancyGrid grid = new OccupancyGrid(MathUtils.ceil(mapWidth / cellSize), MathUtils.ceil(mapHeight / cellSize), cellSize);
+        for (Rectangle rect : schema.getCollision()) {
+            grid.mark(rect, COLLISION);
+        }
+        for (Rectangle rect : schema.getNoBuild()) {
+            grid.mark(rect, NO_BUILD);
+        }
+        for (Rectangle rect : schema.getSensors()) {
+            grid.mark(rect, SENSOR);
+        }
+        return grid;
+    }
+
+    /**
+     * Adds a flag to every cell an area overlaps.
+     *
+     * @param area The area in world units
+     * @param flag The flag to add
+     * @return The cells changed, as {startColumn, startRow, endColumn, endRow} with exclusive ends,
+     *         or null if the area is outside the grid
+     */
+    public int[] mark(Rectangle area, byte flag) {
+        int startColumn = Math.max(0, (int) Math.floor(area.x / cellSize));
+        int startRow = Math.max(0, (int) Math.floor(area.y / cellSize));
+        int endColumn = Math.min(width, (int) Math.ceil((area.x + area.width) / cellSize));
+        int endRow = Math.min(height, (int) Math.ceil((area.y + area.height) / cellSize));
+        if (startColumn >= endColumn || startRow >= endRow) {
+            return null;
+        }
+        for (int y = startRow; y < endRow; y++) {
+            for (int x = startColumn; x < endColumn; x++) {
+                cells[y * width + x] |= flag;
+            }
+        }
+        version++;
+        return new int[] {startColumn, startRow, endColumn, endRow};
+    }
+
+    /**
+     * @return The flags of a cell, or COLLISION for cells outside the grid
+     */
+    public byte getFlags(int x, int y) {
+        if (!contains(x, y)) {
+            return COLLISION;
+        }
+        return cells[y * width + x];
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * @return true if the cell is inside the grid and nothing blocks walking through it
+     */
+    public boolean isWalkable(int x, int y) {
+        return (getFlags(x, y) & BLOCKS_MOVEMENT) == 0;
+    }
+
+    /**
+     * @return true if the cell is inside the grid and has nothing on it at all
+     */
+    public boolean isFree(int x, int y) {
+        return getFlags(x, y) == 0;
+    }
+
+    /**
+     * Checks whether every cell an area overlaps is inside the grid and has nothing on it. Since a cell
+     * counts as covered if an area overlaps any part of it, a free area is certain not to overlap
+     * anything marked, while an area that is not free may still only touch the edge of something.
+     *
+     * @param area The area in world units
+     * @return true if all the cells under the area are free
+     */
+    public boolean isFree(Rectangle area) {
+        int startColumn = (int) Math.floor(area.x / cellSize);
+        int startRow = (int) Math.floor(area.y / cellSize);
+        int endColumn = (int) Math.ceil((area.x + area.width) / cellSize);
+        int endRow = (int) Math.ceil((area.y + area.height) / cellSize);
+        if (startColumn < 0 || startRow < 0 || endColumn > width || endRow > height) {
+            return false;
+        }
+        for (int y = startRow; y < endRow; y++) {
+            for (int x = startColumn; x < endColumn; x++) {
+                if (cells[y * width + x] != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The column containing a world x coordinate
+     */
+    public int toCellX(float worldX) {
+        return (int) Math.floor(worldX / cellSize);
+    }
+
+    /**
+     * @return The row containing a world y coordinate
+     */
+    public int toCellY(float worldY) {
+        return (int) Math.floor(worldY / cellSize);
+    }
+
+    /**
+     * @return The world x coordinate of the centre of a column
+     */
+    public float toWorldX(int cellX) {
+        return (cellX + 0.5f) * cellSize;
+    }
+
+    /**
+     * @return The world y coordinate of the centre of a row
+     */
+    public float toWorldY(int cellY) {
+        return (cellY + 0.5f) * cellSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return A number that changes every time any cell changes, for invalidating anything built from the grid
+     */
+    public int getVersion() {
+        return version;
+    }
+}
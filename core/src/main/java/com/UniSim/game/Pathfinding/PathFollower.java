@@ -0,0 +1,56 @@
+package com.UniSim.game.Pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * PathFollower steers a body along a {@link GridPath}, one cell centre at a time.
+ */
+public class PathFollower {
+
+    // How close to a cell centre counts as having reached it, in world units
+    private static final float ARRIVE_DISTANCE = 0.25f;
+
+    private GridPath path;
+    private int next;
+
+    /**
+     * Starts following a path, replacing any path already being followed.
+     * The start cell is skipped, since the body is already inside it.
+     */
+    public void follow(GridPath path) {
+        this.path = path.isFound() ? path : null;
+        this.next = Math.min(1, path.getCount() - 1);
+    }
+
+    public void stop() {
+        path = null;
+    }
+
+    public boolean isFollowing() {
+        return path != null;
+    }
+
+    /**
+     * Works out the velocity towards the next cell on the path.
+     *
+     * @param position The current position of the body
+     * @param speed The speed to move at
+     * @param velocity Set to the velocity to move with, or zero once the path is finished
+     * @return true while the path is still being followed
+     */
+    public boolean steer(Vector2 position, float speed, Vector2 velocity) {
+        if (path == null) {
+            return false;
+        }
+        while (next < path.getCount() && position.dst(path.getX(next), path.getY(next)) < ARRIVE_DISTANCE) {
+            next++;
+        }
+        if (next >= path.getCount()) {
+            path = null;
+            velocity.setZero();
+            return false;
+        }
+        velocity.set(path.getX(next) - position.x, path.getY(next) - position.y).nor().scl(speed);
+        return true;
+    }
+}
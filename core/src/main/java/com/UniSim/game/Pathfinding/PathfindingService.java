@@ -0,0 +1,160 @@
+package com.UniSim.game.Pathfinding;
+
+import com.UniSim.game.Buildings.BuildingManager;
+import com.UniSim.game.Buildings.Placed;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PathfindingService finds walking routes across the campus with A* over the {@link GridGraph}.
+ * Found paths are kept in a least recently used cache keyed by their start and goal cells, so
+ * repeated trips between the same places cost a single lookup. When a building is placed, its cells
+ * are blocked, only the connections around it are rebuilt and the cache is cleared.
+ *
+ * For destinations many walkers share, such as the buildings students visit, the service also
+ * hands out {@link FlowField}s, which steer any number of walkers without a search each.
+ */
+public class PathfindingService implements BuildingManager.PlacementListener {
+
+    private static final int CACHE_SIZE = 512;
+    // How far from a blocked start or goal to look for a walkable cell to use instead
+    private static final int MAX_SNAP_RADIUS = 8;
+
+    private final OccupancyGrid grid;
+    private final GridGraph graph;
+    private final IndexedAStarPathFinder<GridNode> pathFinder;
+    private final DefaultGraphPath<GridNode> searchPath;
+    private final LinkedHashMap<Long, GridPath> cache;
+    private final FlowFieldCache flowFields;
+
+    public PathfindingService(OccupancyGrid grid) {
+        this.grid = grid;
+        this.graph = new GridGraph(grid);
+        this.pathFinder = new IndexedAStarPathFinder<>(graph);
+        this.searchPath = new DefaultGraphPath<>();
+        this.cache = new LinkedHashMap<Long, GridPath>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GridPath> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.flowFields = new FlowFieldCache(grid);
+    }
+
+    /**
+     * Finds a path between two points. If either point is on a blocked cell, such as a click on a
+     * building, the nearest walkable cell is used instead.
+     *
+     * @param startX The world x coordinate to start from
+     * @param startY The world y coordinate to start from
+     * @param goalX The world x coordinate to walk to
+     * @param goalY The world y coordinate to walk to
+     * @return The path, or {@link GridPath#NONE} if the goal cannot be reached
+     */
+    public GridPath findPath(float startX, float startY, float goalX, float goalY) {
+        GridNode start = nearestWalkable(grid.toCellX(startX), grid.toCellY(startY));
+        GridNode goal = nearestWalkable(grid.toCellX(goalX), grid.toCellY(goalY));
+        if (start == null || goal == null) {
+            return GridPath.NONE;
+        }
+
+        long key = (long) start.index * graph.getNodeCount() + goal.index;
+        GridPath path = cache.get(key);
+        if (path == null) {
+            path = search(start, goal);
+            cache.put(key, path);
+        }
+        return path;
+    }
+
+    private GridPath search(GridNode start, GridNode goal) {
+        searchPath.clear();
+        if (!pathFinder.searchNodePath(start, goal, GridGraph.HEURISTIC, searchPath)) {
+            return GridPath.NONE;
+        }
+        float[] points = new float[searchPath.getCount() * 2];
+        for (int i = 0; i < searchPath.getCount(); i++) {
+            GridNode node = searchPath.get(i);
+            points[i * 2] = grid.toWorldX(node.x);
+            points[i * 2 + 1] = grid.toWorldY(node.y);
+        }
+        return new GridPath(points);
+    }
+
+    /**
+     * Searches outwards in square rings for the walkable cell closest to the given one.
+     *
+     * @return The node of the walkable cell, or null if there is none nearby
+     */
+    private GridNode nearestWalkable(int x, int y) {
+        for (int radius = 0; radius <= MAX_SNAP_RADIUS; radius++) {
+            GridNode best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dy)) != radius || !grid.isWalkable(x + dx, y + dy)) {
+                        continue;
+                    }
+                    int distance = dx * dx + dy * dy;
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = graph.getNode(x + dx, y + dy);
+                    }
+                }
+            }
+            if (best != null) {
+                return best;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the flow field towards the walkable cells around an area.
+     *
+     * @param area The destination's area in world units, usually a building's bounds
+     * @return The shared field for that area
+     */
+    public FlowField getFlowField(Rectangle area) {
+        return flowFields.get(area);
+    }
+
+    /**
+     * Rebuilds the flow fields made out of date by blocked areas. Call this before steering with
+     * fields on other threads, since a field must not be rebuilt while it is being read.
+     */
+    public void updateFlowFields() {
+        flowFields.update();
+    }
+
+    /**
+     * Marks an area of the grid and updates the graph around it.
+     *
+     * @param area The area in world units
+     * @param flag The occupancy flag to add
+     */
+    public void blockArea(Rectangle area, byte flag) {
+        int[] cells = grid.mark(area, flag);
+        if (cells != null) {
+            graph.update(cells[0], cells[1], cells[2], cells[3]);
+            cache.clear();
+        }
+    }
+
+    @Override
+    public void buildingPlaced(Placed building) {
+        blockArea(building.getBounds(), OccupancyGrid.BUILDING);
+    }
+
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    public GridGraph getGraph() {
+        return graph;
+    }
+}
@@ -20,6 +20,9 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
  * The menu is overlaid with a semi-transparent blur effect when active.
  */
 public class PauseMenu {
+    private static final String SETTINGS_SCREEN = "pauseSettings";
+    private static final String HOW_TO_PLAY_SCREEN = "pauseHowToPlay";
+
     private Window pauseMenu;
     private Image blurOverlay;
     private boolean isPaused = false;
@@ -43,6 +46,10 @@ public class PauseMenu {
         this.game = game;
         this.music = music;
 
+        // Screens cached for a previous game point back at that game's pause menu
+        game.evictScreen(SETTINGS_SCREEN);
+        game.evictScreen(HOW_TO_PLAY_SCREEN);
+
         // Create a blur overlay (semi-transparent black for a blurring effect)
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(new Color(0, 0, 0, 0.5f)); // Semi-transparent black
@@ -74,7 +81,7 @@ public class PauseMenu {
         settingsButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new SettingsScreen(game, PauseMenu.this, music)); // Navigate to SettingsScreen and pass PauseMenu
+                game.showScreen(SETTINGS_SCREEN, () -> new SettingsScreen(game, PauseMenu.this, music)); // Navigate to SettingsScreen and pass PauseMenu
             }
         });
         pauseMenu.add(settingsButton).pad(10).row();
@@ -84,7 +91,7 @@ public class PauseMenu {
         howToPlayButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new HowToPlayScreen(game, PauseMenu.this, music)); // Navigate to HowToPlayScreen and pass PauseMenu
+                game.showScreen(HOW_TO_PLAY_SCREEN, () -> new HowToPlayScreen(game, PauseMenu.this, music)); // Navigate to HowToPlayScreen and pass PauseMenu
             }
         });
         pauseMenu.add(howToPlayButton).pad(10).row();
@@ -95,7 +102,7 @@ public class PauseMenu {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 music.pause();
-                game.setScreen(new LandingScreen(game)); // Navigate to main menu
+                game.showLandingScreen(); // Navigate to main menu
             }
         });
         pauseMenu.add(mainMenuButton).pad(10).row();
@@ -0,0 +1,72 @@
+package com.UniSim.game.Physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * PhysicsConfig holds the settings used to create and step the Box2D world.
+ * Sleeping is enabled by default, so bodies that have come to rest, such as the player standing
+ * still, are skipped by the solver until something touches or moves them. Static bodies like the
+ * map's hitboxes and placed buildings are never solved, so an idle campus costs almost nothing
+ * to simulate however many buildings it has.
+ */
+public class PhysicsConfig {
+
+    public static final float TIME_STEP = 1 / 60f;
+    public static final int VELOCITY_ITERATIONS = 6;
+    public static final int POSITION_ITERATIONS = 2;
+
+    public static final PhysicsConfig DEFAULT = new PhysicsConfig(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS, true);
+
+    private final float timeStep;
+    private final int velocityIterations;
+    private final int positionIterations;
+    private final boolean allowSleep;
+
+    /**
+     * @param timeStep The simulated time of each step, in seconds
+     * @param velocityIterations The number of velocity constraint iterations per step
+     * @param positionIterations The number of position constraint iterations per step
+     * @param allowSleep Whether bodies at rest may sleep
+     */
+    public PhysicsConfig(float timeStep, int velocityIterations, int positionIterations, boolean allowSleep) {
+        this.timeStep = timeStep;
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+        this.allowSleep = allowSleep;
+    }
+
+    /**
+     * Creates a top-down world with no gravity.
+     *
+     * @return The new world
+     */
+    public World createWorld() {
+        return new World(new Vector2(0, 0), allowSleep);
+    }
+
+    /**
+     * Advances the world by one time step.
+     *
+     * @param world The world to step
+     */
+    public void step(World world) {
+        world.step(timeStep, velocityIterations, positionIterations);
+    }
+
+    public float getTimeStep() {
+        return timeStep;
+    }
+
+    public int getVelocityIterations() {
+        return velocityIterations;
+    }
+
+    public int getPositionIterations() {
+        return positionIterations;
+    }
+
+    public boolean isSleepAllowed() {
+        return allowSleep;
+    }
+}
@@ -0,0 +1,94 @@
+package com.UniSim.game.Replay;
+
+/**
+ * An InputCommand is one action of the player that changes the simulation, taking effect on a tick
+ * of the {@link com.UniSim.game.Simulation.SimulationClock}. Raw keys and clicks are turned into
+ * commands once per frame, so a session can be recorded and replayed as a list of commands without
+ * the window, the camera or the UI that produced them.
+ */
+public final class InputCommand {
+
+    // The movement keys held, as a combination of the direction bits below
+    public static final int MOVE = 0;
+    // Right click on the map to walk there
+    public static final int WALK = 1;
+    // ENTER at the reception to toggle build mode
+    public static final int ENTER = 2;
+    // Left click to place the selected building
+    public static final int PLACE = 3;
+    // Press of a placed building's interact button
+    public static final int INTERACT = 4;
+
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 4;
+    public static final int RIGHT = 8;
+
+    private static final InputCommand ENTER_COMMAND = new InputCommand(ENTER, 0, 0, 0);
+
+    private final int type;
+    private final int value;
+    private final float x;
+    private final float y;
+
+    InputCommand(int type, int value, float x, float y) {
+        this.type = type;
+        this.value = value;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @param directions The direction bits of the movement keys held
+     */
+    public static InputCommand move(int directions) {
+        return new InputCommand(MOVE, directions, 0, 0);
+    }
+
+    /**
+     * @param x The x-coordinate to walk to, in world units
+     * @param y The y-coordinate to walk to, in world units
+     */
+    public static InputCommand walk(float x, float y) {
+        return new InputCommand(WALK, 0, x, y);
+    }
+
+    public static InputCommand enter() {
+        return ENTER_COMMAND;
+    }
+
+    /**
+     * @param option The index of the building in {@link com.UniSim.game.Buildings.BuildingManager#combineBuildings()}
+     * @param x The x-coordinate of the building's centre, in world units
+     * @param y The y-coordinate of the building's centre, in world units
+     */
+    public static InputCommand place(int option, float x, float y) {
+        return new InputCommand(PLACE, option, x, y);
+    }
+
+    /**
+     * @param building The index of the placed building, in the order buildings were placed
+     */
+    public static InputCommand interact(int building) {
+        return new InputCommand(INTERACT, building, 0, 0);
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * @return The direction bits, building option or placed building, depending on the type
+     */
+    public int getValue() {
+        return value;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+}
@@ -0,0 +1,200 @@
+package com.UniSim.game.Replay;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * InputLog holds a recorded session: the seed of its random numbers, every command the player gave
+ * along with the tick it took effect on, and the tick and {@link StateHash} the session ended with.
+ * Replaying the commands from the same seed must end on the same tick with the same hash.
+ * <p>
+ * Logs are stored in a compact binary format. After a header of the magic number, the version and
+ * the seed, each command is its tick as a variable-length count of ticks since the previous command,
+ * its type as a byte, then its arguments. The movement keys are only stored when they change. The
+ * log ends with an end marker, the ticks to the end of the session and the final hash.
+ */
+public class InputLog {
+
+    public static final int MAGIC = 0x55535250; // "USRP"
+    public static final int VERSION = 1;
+    // Local folder recorded sessions are saved to
+    public static final String FOLDER = "replays/";
+    public static final String EXTENSION = ".replay";
+
+    private static final int END = 0xff;
+
+    private final long seed;
+    private final LongArray ticks;
+    private final Array<InputCommand> commands;
+    private long endTick = -1;
+    private long checksum;
+
+    public InputLog(long seed) {
+        this.seed = seed;
+        this.ticks = new LongArray();
+        this.commands = new Array<>();
+    }
+
+    /**
+     * Adds a command to the end of the log.
+     *
+     * @param tick The tick it took effect on, no earlier than the previous command's
+     */
+    public void add(long tick, InputCommand command) {
+        if (ticks.size > 0 && tick < ticks.peek()) {
+            throw new IllegalArgumentException("Command at tick " + tick + " after one at tick " + ticks.peek());
+        }
+        ticks.add(tick);
+        commands.add(command);
+    }
+
+    /**
+     * Marks the end of the session.
+     *
+     * @param tick The tick the session ended on
+     * @param checksum The hash of the simulation at the end
+     */
+    public void finish(long tick, long checksum) {
+        this.endTick = tick;
+        this.checksum = checksum;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return commands.size;
+    }
+
+    public long getTick(int index) {
+        return ticks.get(index);
+    }
+
+    public InputCommand getCommand(int index) {
+        return commands.get(index);
+    }
+
+    /**
+     * @return The tick the session ended on, or -1 if it has not ended
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Writes the log in the binary format. The session must have ended.
+     */
+    public void write(OutputStream stream) throws IOException {
+        if (endTick < 0) {
+            throw new IllegalStateException("The session has not ended");
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        long previous = 0;
+        for (int i = 0; i < commands.size; i++) {
+            InputCommand command = commands.get(i);
+            writeVarLong(out, ticks.get(i) - previous);
+            previous = ticks.get(i);
+            out.writeByte(command.getType());
+            switch (command.getType()) {
+                case InputCommand.MOVE:
+                    out.writeByte(command.getValue());
+                    break;
+                case InputCommand.WALK:
+                    out.writeFloat(command.getX());
+                    out.writeFloat(command.getY());
+                    break;
+                case InputCommand.PLACE:
+                    writeVarLong(out, command.getValue());
+                    out.writeFloat(command.getX());
+                    out.writeFloat(command.getY());
+                    break;
+                case InputCommand.INTERACT:
+                    writeVarLong(out, command.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+        writeVarLong(out, endTick - previous);
+        out.writeByte(END);
+        out.writeLong(checksum);
+        out.flush();
+    }
+
+    /**
+     * Reads a log written by {@link #write}.
+     *
+     * @throws IOException If the log could not be read, or is not in a supported format
+     */
+    public static InputLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unsupported input log");
+        }
+        InputLog log = new InputLog(in.readLong());
+        long tick = 0;
+        while (true) {
+            tick += readVarLong(in);
+            int type = in.readUnsignedByte();
+            switch (type) {
+                case InputCommand.MOVE:
+                    log.add(tick, InputCommand.move(in.readUnsignedByte()));
+                    break;
+                case InputCommand.WALK:
+                    log.add(tick, InputCommand.walk(in.readFloat(), in.readFloat()));
+                    break;
+                case InputCommand.ENTER:
+                    log.add(tick, InputCommand.enter());
+                    break;
+                case InputCommand.PLACE:
+                    int option = (int) readVarLong(in);
+                    log.add(tick, InputCommand.place(option, in.readFloat(), in.readFloat()));
+                    break;
+                case InputCommand.INTERACT:
+                    log.add(tick, InputCommand.interact((int) readVarLong(in)));
+                    break;
+                case END:
+                    log.finish(tick, in.readLong());
+                    return log;
+                default:
+                    throw new IOException("Unknown input command type " + type);
+            }
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed tick count");
+    }
+}
@@ -0,0 +1,42 @@
+package com.UniSim.game.Replay;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Where the commands driving the simulation come from: the player, recorded as they play, or an
+ * {@link InputLog} being replayed. The game screen submits the commands it reads from the keyboard
+ * and mouse every frame, and polls for the commands to apply at the start of every tick.
+ */
+public interface InputSource {
+
+    /**
+     * @return The seed of the simulation's random numbers
+     */
+    long getSeed();
+
+    /**
+     * Submits a command read from the keyboard or mouse, to take effect on the next tick.
+     */
+    void submit(InputCommand command);
+
+    /**
+     * Adds the commands taking effect on a tick to a list, in the order they were given.
+     *
+     * @param tick The tick being run
+     * @param commands The list to add the commands to
+     */
+    void poll(long tick, Array<InputCommand> commands);
+
+    /**
+     * Called when the session ends.
+     *
+     * @param tick The tick the session ended on
+     * @param checksum The {@link StateHash} of the simulation at the end
+     */
+    void finish(long tick, long checksum);
+
+    /**
+     * @return true if the commands come from a log rather than the player
+     */
+    boolean isReplay();
+}
@@ -0,0 +1,140 @@
+package com.UniSim.game.Replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * LiveInput passes the player's commands on to the simulation, recording each one with the tick it
+ * takes effect on. When the session ends the recording is saved to its file, so it can be replayed
+ * later. Sessions given no file are only saved when recording was turned on with the desktop
+ * launcher's {@code unisim.record} flag, into the local {@link InputLog#FOLDER}, which keeps the last
+ * {@link #MAX_SESSIONS} of them.
+ */
+public class LiveInput implements InputSource {
+
+    // Recorded sessions kept in the replay folder, older ones are deleted as new ones are saved
+    public static final int MAX_SESSIONS = 20;
+
+    private static final String SESSION_PREFIX = "session-";
+
+    private static boolean recordSessions;
+
+    private final InputLog log;
+    private final FileHandle file;
+    private final Array<InputCommand> pending;
+    private int directions; // The movement keys last passed on
+
+    /**
+     * @param seed The seed of the simulation's random numbers
+     */
+    public LiveInput(long seed) {
+        this(seed, null);
+    }
+
+    /**
+     * @param seed The seed of the simulation's random numbers
+     * @param file The file to save the recording to, or null to name it after the time the session ends
+     *             if sessions are being recorded
+     */
+    public LiveInput(long seed, FileHandle file) {
+        this.log = new InputLog(seed);
+        this.file = file;
+        this.pending = new Array<>();
+    }
+
+    /**
+     * Turns saving sessions that were given no file on or off. Off by default.
+     */
+    public static void setRecordSessions(boolean record) {
+        recordSessions = record;
+    }
+
+    @Override
+    public long getSeed() {
+        return log.getSeed();
+    }
+
+    @Override
+    public void submit(InputCommand command) {
+        // The movement keys are submitted every frame, so frames run without a tick only keep the latest
+        if (command.getType() == InputCommand.MOVE && pending.size > 0
+            && pending.peek().getType() == InputCommand.MOVE) {
+            pending.pop();
+        }
+        pending.add(command);
+    }
+
+    @Override
+    public void poll(long tick, Array<InputCommand> commands) {
+        for (int i = 0; i < pending.size; i++) {
+            InputCommand command = pending.get(i);
+            if (command.getType() == InputCommand.MOVE) {
+                if (command.getValue() == directions) {
+                    continue;
+                }
+                directions = command.getValue();
+            }
+            log.add(tick, command);
+            commands.add(command);
+        }
+        pending.clear();
+    }
+
+    @Override
+    public void finish(long tick, long checksum) {
+        log.finish(tick, checksum);
+        FileHandle file = this.file;
+        if (file == null) {
+            if (!recordSessions) {
+                return;
+            }
+            String name = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            file = Gdx.files.local(InputLog.FOLDER + SESSION_PREFIX + name + InputLog.EXTENSION);
+            deleteOldSessions(file.parent(), MAX_SESSIONS - 1);
+        }
+        try (OutputStream out = file.write(false)) {
+            log.write(out);
+        } catch (IOException e) {
+            Gdx.app.error("LiveInput", "Error saving replay: " + file, e);
+        }
+    }
+
+    /**
+     * Deletes the oldest recorded sessions in a folder until only the given number are left. Their
+     * names start with the time they were saved, so sorting by name sorts them by age.
+     */
+    private static void deleteOldSessions(FileHandle folder, int keep) {
+        Array<FileHandle> sessions = new Array<>();
+        for (FileHandle session : folder.list(InputLog.EXTENSION)) {
+            if (session.name().startsWith(SESSION_PREFIX)) {
+                sessions.add(session);
+            }
+        }
+        sessions.sort((a, b) -> a.name().compareTo(b.name()));
+        for (int i = 0; i < sessions.size - keep; i++) {
+            sessions.get(i).delete();
+        }
+    }
+
+    @Override
+    public boolean isReplay() {
+        return false;
+    }
+
+    /**
+     * @return true once the session has ended, and been saved if it is being recorded
+     */
+    public boolean isFinished() {
+        return log.getEndTick() >= 0;
+    }
+
+    public InputLog getLog() {
+        return log;
+    }
+}
@@ -0,0 +1,86 @@
+package com.UniSim.game.Replay;
+
+import com.UniSim.game.Simulation.SimulationClock;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * ReplayInput feeds a recorded {@link InputLog} back into the simulation, ignoring the keyboard and
+ * mouse. Since the simulation only changes on ticks, and only through its commands and its seeded
+ * random numbers, the replay reproduces the recorded session exactly, which is checked against the
+ * hash stored at the end of the log.
+ */
+public class ReplayInput implements InputSource {
+
+    private final InputLog log;
+    private int next; // The next command of the log to apply
+    private long endTick = -1;
+    private long checksum;
+
+    public ReplayInput(InputLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public long getSeed() {
+        return log.getSeed();
+    }
+
+    @Override
+    public void submit(InputCommand command) {
+    }
+
+    @Override
+    public void poll(long tick, Array<InputCommand> commands) {
+        while (next < log.size() && log.getTick(next) <= tick) {
+            commands.add(log.getCommand(next++));
+        }
+    }
+
+    @Override
+    public void finish(long tick, long checksum) {
+        this.endTick = tick;
+        this.checksum = checksum;
+    }
+
+    @Override
+    public boolean isReplay() {
+        return true;
+    }
+
+    /**
+     * Runs the simulation tick by tick, as fast as possible, until the session ends. A session that
+     * has gone differently is stopped once it runs past the recorded end.
+     *
+     * @param clock The clock of the simulation being driven by this input
+     * @return true if the session ended on the recorded tick with the recorded hash
+     */
+    public boolean play(SimulationClock clock) {
+        while (!isFinished() && clock.getTick() < log.getEndTick()) {
+            clock.step();
+        }
+        return matches();
+    }
+
+    public boolean isFinished() {
+        return endTick >= 0;
+    }
+
+    /**
+     * @return true if the session has ended exactly as it did when it was recorded
+     */
+    public boolean matches() {
+        return endTick == log.getEndTick() && checksum == log.getChecksum();
+    }
+
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public InputLog getLog() {
+        return log;
+    }
+}
@@ -0,0 +1,43 @@
+package com.UniSim.game.Replay;
+
+/**
+ * StateHash folds the state of the simulation into a 64-bit FNV-1a hash. Floats are hashed by their
+ * exact bits, so two runs only hash the same if they are identical, not merely close.
+ */
+public final class StateHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public StateHash add(int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * PRIME;
+        }
+        return this;
+    }
+
+    public StateHash add(long value) {
+        return add((int) value).add((int) (value >>> 32));
+    }
+
+    public StateHash add(float value) {
+        return add(Float.floatToRawIntBits(value));
+    }
+
+    public StateHash add(boolean value) {
+        return add(value ? 1 : 0);
+    }
+
+    public StateHash add(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            add(value.charAt(i));
+        }
+        return add(value.length());
+    }
+
+    public long get() {
+        return hash;
+    }
+}
@@ -1,14 +1,13 @@
 package com.UniSim.game.Screens;
 
+import com.UniSim.game.GameAssets;
 import com.UniSim.game.UniSim;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
@@ -30,7 +29,6 @@ public class CreditsScreen implements Screen {
     private Skin skin;
     private Music music;
     private LandingScreen landingScreen;
-    private Texture backgroundTexture;
 
     /**
      * Constructor for initializing the CreditsScreen.
@@ -43,9 +41,6 @@ public class CreditsScreen implements Screen {
         this.game = game;
         this.landingScreen = landingScreen;
         this.music = music;
-        //this.stage = new Stage(new ScreenViewport());
-        this.skin = new Skin(Gdx.files.internal("uiskin.json")); // Load the skin for UI elements
-        Gdx.input.setInputProcessor(stage);  // Set input processor to this screen's stage
 
         // Initialize UI elements
         initialize();
@@ -58,9 +53,6 @@ public class CreditsScreen implements Screen {
     private void initialize() {
         stage = new Stage(new FitViewport(2560, 1440));
         skin = new Skin(Gdx.files.internal("uiskin.json"));
-        Gdx.input.setInputProcessor(stage);
-
-        backgroundTexture = new Texture("LoadScreenBackground.png");
 
         // Create a table to organize UI elements
         Table table = new Table();
@@ -81,14 +73,14 @@ public class CreditsScreen implements Screen {
         });
 
         // Large text box with instructions
-        BitmapFont customFont = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont = GameAssets.font(GameAssets.FONT);
         customFont.getData().setScale(0.9f);
 
         Label.LabelStyle customLabelStyle = new Label.LabelStyle();
         customLabelStyle.font = customFont;
         customLabelStyle.fontColor = Color.BLACK;
 
-        BitmapFont customFont1 = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont1 = GameAssets.font(GameAssets.FONT);
         customFont1.getData().setScale(0.14f);
 
 
@@ -128,18 +120,16 @@ public class CreditsScreen implements Screen {
     }
 
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(1, 1, 1, 1);  // Set a background color for the Credits screen
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        SpriteBatch batch = new SpriteBatch();
-
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        game.drawMenuBackground();
 
         stage.act();
         stage.draw();
@@ -1,17 +1,15 @@
 package com.UniSim.game.Screens;
 import static com.UniSim.game.Constants.*;
+import com.UniSim.game.Stats.Leaderboard;
 import com.UniSim.game.Stats.PlayerStats;
+import com.UniSim.game.GameAssets;
 import com.UniSim.game.UniSim;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
@@ -33,10 +31,8 @@ public class EndScreen implements Screen {
     private static final float TITLE_FONT_SCALE = 1f;
 
     private final UniSim game;
-    private final AssetManager manager;
 
     private Stage stage;
-    private Texture backgroundTexture;
     private Music music;
     private Skin skin;
     private BitmapFont font;
@@ -56,7 +52,6 @@ public class EndScreen implements Screen {
      */
     public EndScreen(UniSim game, Music music, PlayerStats finalStats) {
         this.game = game;
-        this.manager = new AssetManager();
         this.finalStats = finalStats;
         this.satisfactionLeft = Float.parseFloat(finalStats.getSatisfaction());
 
@@ -71,11 +66,7 @@ public class EndScreen implements Screen {
      * @param music The background music to be played.
      */
     private void initializeMusic(Music music) {
-        this.music = music;
-        manager.load("music/Chippytoon.mp3", Music.class);
-        manager.finishLoading();
-
-        this.music = manager.get("music/Chippytoon.mp3", Music.class);
+        this.music = GameAssets.music(GameAssets.END_MUSIC);
         this.music.setLooping(true);
         this.music.setVolume(music.getVolume());
         this.music.play();
@@ -84,7 +75,6 @@ public class EndScreen implements Screen {
     private void initializeStage() {
         stage = new Stage(new FitViewport(2560, 1440));
         Gdx.input.setInputProcessor(stage);
-        backgroundTexture = new Texture("LoadScreenBackground.png");
 
     }
 
@@ -94,11 +84,11 @@ public class EndScreen implements Screen {
     private void initializeUI() {
         skin = new Skin(Gdx.files.internal("uiskin.json"));
 
-        font = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        font = GameAssets.font(GameAssets.FONT);
         font.getData().setScale(FONT_SCALE);
         labelStyle = new Label.LabelStyle(font, null);
 
-        titleFont = new BitmapFont(Gdx.files.internal("titleFont.fnt"));
+        titleFont = GameAssets.font(GameAssets.TITLE_FONT);
         titleFont.getData().setScale(TITLE_FONT_SCALE);
         titleLabelStyle = new Label.LabelStyle(titleFont, null);
 
@@ -124,19 +114,19 @@ public class EndScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 music.stop();
-                game.setScreen(new LandingScreen(game));
+                game.showLandingScreen();
             }
         });
 
 
-        BitmapFont customFont = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont = GameAssets.font(GameAssets.FONT);
         customFont.getData().setScale(0.9f);
 
         Label.LabelStyle customLabelStyle = new Label.LabelStyle();
         customLabelStyle.font = customFont;
         customLabelStyle.fontColor = Color.BLACK;
 
-        BitmapFont customFont1 = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont1 = GameAssets.font(GameAssets.FONT);
         customFont1.getData().setScale(0.15f);
 
 
@@ -148,13 +138,14 @@ public class EndScreen implements Screen {
         float fatigueLeft = finalStats.getFatigue();
         float knowledgeLeft = finalStats.getKnowledge();
 
-        float currencyAddition = currencyLeft / 100;
-        float knowledgeAddition = knowledgeLeft * 2;
-        float fatigueSubtraction = fatigueLeft;
+        float currencyAddition = finalStats.getCurrencyScore();
+        float knowledgeAddition = finalStats.getKnowledgeScore();
+        float fatigueSubtraction = -finalStats.getFatigueScore();
 
-        float beforeSatisfactionLeft = this.satisfactionLeft;
+        float beforeSatisfactionLeft = Float.parseFloat(finalStats.getSatisfaction());
 
-        this.satisfactionLeft += currencyAddition + knowledgeAddition - fatigueSubtraction;
+        // The stats keep the final score up to date as they change
+        this.satisfactionLeft = finalStats.getFinalScore();
 
 
         Label CongratulationsLabel = new Label("Congratulations", customLabelStyle);
@@ -188,11 +179,7 @@ public class EndScreen implements Screen {
         Gdx.gl.glClearColor(1, 1, 1, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        SpriteBatch batch = new SpriteBatch();
-
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        game.drawMenuBackground();
 
         stage.act(delta);
         stage.draw();
@@ -221,24 +208,19 @@ public class EndScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        backgroundTexture.dispose();
-        music.dispose();
         font.dispose();
         titleFont.dispose();
         skin.dispose();
-        manager.dispose();
     }
 
     /**
-     * Saves the final satisfaction score to a leaderboard file.
-     * This score is appended to the file for future reference.
+     * Saves the final satisfaction score to the leaderboard file.
+     * The leaderboard is rewritten atomically, so a crash cannot corrupt earlier scores.
      */
     private void saveSatisfaction() {
-        // Get a handle to the file in the local storage
-        FileHandle file = Gdx.files.local("leaderboard.txt");
-        System.out.println("Saving to: " + file.file().getAbsolutePath());
-        // Append the satisfaction value to the file, followed by a newline for readability
-        file.writeString(satisfactionLeft + "\n", true);
+        Leaderboard leaderboard = new Leaderboard().load();
+        leaderboard.addScore(satisfactionLeft);
+        leaderboard.flush();
     }
 }
 
@@ -4,21 +4,39 @@ import com.UniSim.game.*;
 import com.UniSim.game.Buildings.Building;
 import com.UniSim.game.Buildings.BuildingManager;
 import com.UniSim.game.Buildings.Types.*;
+import com.UniSim.game.Map.ChunkedMap;
+import com.UniSim.game.Map.HitboxMerger;
+import com.UniSim.game.Map.MapLod;
+import com.UniSim.game.Map.MapSchema;
+import com.UniSim.game.Map.StaticLayerRenderer;
+import com.UniSim.game.Map.StreamedMap;
+import com.UniSim.game.Map.WaterDistance;
+import com.UniSim.game.Pathfinding.OccupancyGrid;
+import com.UniSim.game.Pathfinding.PathFollower;
+import com.UniSim.game.Pathfinding.PathfindingService;
+import com.UniSim.game.Physics.PhysicsConfig;
+import com.UniSim.game.Replay.InputCommand;
+import com.UniSim.game.Replay.InputSource;
+import com.UniSim.game.Replay.LiveInput;
+import com.UniSim.game.Replay.StateHash;
+import com.UniSim.game.Simulation.Schedule;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.Simulation.TimeScale;
 import com.UniSim.game.Sprites.Character;
 import com.UniSim.game.Sprites.SpeechBubble;
+import com.UniSim.game.Stats.PlayerStats;
+import com.UniSim.game.Students.StudentSimulation;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
@@ -31,8 +49,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
-import java.util.ArrayList;
 import java.util.Objects;
 
 import static com.UniSim.game.Constants.*;
@@ -43,6 +61,9 @@ import static com.UniSim.game.Constants.*;
  * physics, UI components, and other essential features of the game.
  */
 public class GameScreen implements Screen {
+    // A student loan is paid out once a minute until the session ends
+    public static final Schedule LOAN_SCHEDULE = Schedule.every(60).until(300);
+
     private UniSim game;
     private Stage stage;
 
@@ -54,7 +75,6 @@ public class GameScreen implements Screen {
     private World world;
     private Character player;
     private SpeechBubble speechBubbleReception;
-    private Texture map;
     private OrthographicCamera camera;
 
     private Box2DDebugRenderer b2dr;
@@ -63,11 +83,26 @@ public class GameScreen implements Screen {
 
     private Skin skin;           // Skin for UI styling
 
-    private TmxMapLoader mapLoader;
     private TiledMap tiledMap;
+    private MapSchema mapSchema; // The map's collision and sensor areas, found by layer name
     private OrthogonalTiledMapRenderer renderer;
+    private StaticLayerRenderer mapRenderer; // Draws the tile layers from cached geometry
+    private MapLod mapLod; // Pre-rendered campus image used when zoomed out
+    private StreamedMap streamedMap; // Set instead of the renderers when the map is streamed in chunks
+    private float mapWidth;  // Map size in world units
+    private float mapHeight;
+
+    private PathfindingService pathfinding;
+    private PathFollower playerPath; // Route the player walks after right clicking on the map
+    private final Vector2 pathVelocity = new Vector2();
+
+    private SimulationClock clock; // Runs the simulation in fixed ticks and holds every timed event
+    private final InputSource input; // The player's commands, recorded, or read back from a recording
+    private final Array<InputCommand> commands = new Array<>(); // Commands taking effect on the current tick
+    private int directions; // The movement keys held, as InputCommand direction bits
+    private StudentSimulation students; // The student NPCs walking between buildings
+    private TextureRegion studentRegion;
 
-    public static AssetManager manager;
     private Music music;
 
     public Hud hud;
@@ -78,9 +113,9 @@ public class GameScreen implements Screen {
     private boolean playerNearReseption;
 
     private boolean showFullMap = false;
+    private TimeScale resumeTimeScale = TimeScale.NORMAL; // The speed SPACE resumes at after pausing
     private Vector3 originalCameraPosition;
     private float originalZoom;
-    private ArrayList<Float> loggedMinutes;
 
     private String buildingInteractedWith;
 
@@ -93,11 +128,22 @@ public class GameScreen implements Screen {
      * @param music The background music to be played.
      */
     public GameScreen(UniSim game, Music music) {
+        this(game, music, new LiveInput(MathUtils.random.nextLong()));
+    }
+
+    /**
+     * Constructor to initialize the game screen, driven by the given input.
+     *
+     * @param game The main game instance.
+     * @param music The background music to be played.
+     * @param input Where the player's commands come from, such as a recording being replayed.
+     */
+    public GameScreen(UniSim game, Music music, InputSource input) {
         this.game = game;
-        loggedMinutes = new ArrayList<>();
+        this.input = input;
         playerNearReseption = false;
-        characterTexture = new Texture("character-1.png");
-        speechBubbleTexture = new Texture("question.png");
+        characterTexture = GameAssets.texture(GameAssets.CHARACTER);
+        speechBubbleTexture = GameAssets.texture(GameAssets.SPEECH_BUBBLE);
         skin = new Skin(Gdx.files.internal("uiskin.json"));
 
 
@@ -105,7 +151,7 @@ public class GameScreen implements Screen {
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight())); // Initialize the stage
         Gdx.input.setInputProcessor(stage); // Set the stage as the input processor
 
-        world = new World(new Vector2(0, 0), false);
+        world = PhysicsConfig.DEFAULT.createWorld();
 
         b2dr = new Box2DDebugRenderer();
         player = new Character(world, this);
@@ -115,29 +161,51 @@ public class GameScreen implements Screen {
 
         fitViewport = new FitViewport(Gdx.graphics.getWidth() / SCALE / PPM, Gdx.graphics.getHeight() / SCALE / PPM, camera);
 
-        mapLoader = new TmxMapLoader();
-        tiledMap = mapLoader.load("SimMap.tmx");
-        renderer = new OrthogonalTiledMapRenderer(tiledMap, 1 / PPM);
+        if (ChunkedMap.exists(GameAssets.STREAMED_MAP)) {
+            streamedMap = new StreamedMap(GameAssets.STREAMED_MAP, world, 1 / PPM);
+            tiledMap = streamedMap.getTiledMap();
+            mapSchema = MapSchema.forChunkedMap(GameAssets.STREAMED_MAP, streamedMap.getChunkedMap(), 1 / PPM);
+            mapWidth = streamedMap.getWidth();
+            mapHeight = streamedMap.getHeight();
+        } else {
+            tiledMap = GameAssets.map(GameAssets.MAP);
+            mapSchema = MapSchema.forMap(GameAssets.MAP, tiledMap, 1 / PPM);
+            renderer = new OrthogonalTiledMapRenderer(tiledMap, 1 / PPM);
+            mapRenderer = new StaticLayerRenderer(tiledMap, renderer);
+            MapProperties properties = tiledMap.getProperties();
+            mapWidth = properties.get("width", Integer.class) * properties.get("tilewidth", Integer.class) / PPM;
+            mapHeight = properties.get("height", Integer.class) * properties.get("tileheight", Integer.class) / PPM;
+        }
         camera.position.set(fitViewport.getWorldWidth() / 2, fitViewport.getWorldHeight() / 2, 0);
 
-        buildingManager = new BuildingManager(stage, skin, world, tiledMap, this);
+        clock = new SimulationClock(input.getSeed());
+        pathfinding = new PathfindingService(OccupancyGrid.fromSchema(mapSchema, mapWidth, mapHeight, GRID_SIZE));
+        buildingManager = new BuildingManager(stage, skin, world, mapSchema,
+            new WaterDistance(mapSchema, mapWidth, mapHeight, GRID_SIZE), pathfinding.getGrid(), clock, input, this);
+        if (streamedMap == null) {
+            mapLod = new MapLod(tiledMap, mapRenderer, 1 / PPM);
+            buildingManager.addPlacementListener(mapLod);
+        }
+        buildingManager.addPlacementListener(pathfinding);
+        playerPath = new PathFollower();
+        students = new StudentSimulation(pathfinding, clock, 14 / PPM, 18 / PPM);
+        buildingManager.addPlacementListener(students);
+        studentRegion = new TextureRegion(characterTexture, 1, 4, 14, 18);
 
         this.music = music;
         float volume = music.getVolume();
-        manager = new AssetManager();
-        manager.load("music/harbor.mp3", Music.class);
-        manager.finishLoading();
-
-        music = manager.get("music/harbor.mp3", Music.class);
+        music = GameAssets.music(GameAssets.GAME_MUSIC);
         music.setLooping(true);
         music.setVolume(volume);
         music.play();
 
-        hud = new Hud(game.batch, skin, world, this, game, music);
+        hud = new Hud(game.batch, skin, world, this, game, music, clock);
+        clock.schedule(LOAN_SCHEDULE, this::studentLoan);
+        clock.addTickListener(this::tick);
 
 
         // Load the pause icon texture
-        pauseIconTexture = new Texture(Gdx.files.internal("pause.png"));
+        pauseIconTexture = GameAssets.texture(GameAssets.PAUSE_ICON);
         TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(pauseIconTexture));
         ImageButton pauseButton = new ImageButton(drawable);
         pauseButton.setPosition(10, Gdx.graphics.getHeight() - pauseButton.getHeight() - 10);
@@ -160,54 +228,50 @@ public class GameScreen implements Screen {
 
 
 
-        BodyDef bdef = new BodyDef();
-        PolygonShape shape = new PolygonShape();
-        FixtureDef fdef = new FixtureDef();
-
-        makeHitBoxes(bdef, shape, fdef);
-        Body body;
+        // A streamed map's bodies are created chunk by chunk as they stream in, by StreamedMapBodies
+        if (streamedMap == null) {
+            BodyDef bdef = new BodyDef();
+            PolygonShape shape = new PolygonShape();
+            FixtureDef fdef = new FixtureDef();
 
-        for (MapObject object : tiledMap.getLayers().get(7).getObjects().getByType(RectangleMapObject.class)) {
-            Rectangle rect = ((RectangleMapObject) object).getRectangle();
+            makeHitBoxes(bdef, shape, fdef);
+            Body body;
 
-            bdef.type = BodyDef.BodyType.StaticBody;
-            bdef.position.set((rect.getX() + rect.getWidth() / 2) / PPM, (rect.getY() + rect.getHeight() / 2) / PPM);
+            for (Rectangle rect : mapSchema.getSensors()) {
+                bdef.type = BodyDef.BodyType.StaticBody;
+                bdef.position.set(rect.x + rect.width / 2, rect.y + rect.height / 2);
 
-            body = world.createBody(bdef);
+                body = world.createBody(bdef);
 
-            shape.setAsBox(rect.getWidth() / 2 / PPM, rect.getHeight() / 2 / PPM);
-            fdef.shape = shape;
-            fdef.isSensor = true;
-            Fixture sensorFixture = body.createFixture(fdef);
-            sensorFixture.setUserData("sensor");
+                shape.setAsBox(rect.width / 2, rect.height / 2);
+                fdef.shape = shape;
+                fdef.isSensor = true;
+                Fixture sensorFixture = body.createFixture(fdef);
+                sensorFixture.setUserData("sensor");
+            }
             shape.dispose();
         }
         setupCollisionListener();
     }
 
     /**
-     * Creates hitboxes for the game world, adding them as static bodies.
-     * This method iterates through specific layers of the map and defines collision boundaries.
+     * Creates hitboxes for the game world as fixtures of a single static body.
+     * The boundaries come from the collision layers of the map's schema, merged into as few boxes as possible.
      *
      * @param bdef The body definition used for creating bodies.
      * @param shape The shape of the hitbox.
      * @param fdef The fixture definition containing the properties of the hitbox.
      */
     private void makeHitBoxes(BodyDef bdef, PolygonShape shape, FixtureDef fdef) {
-        Body body;
-        for(int i = 3; i < 6; i++) {
-            for (MapObject object : tiledMap.getLayers().get(i).getObjects().getByType(RectangleMapObject.class)) {
-                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+        bdef.type = BodyDef.BodyType.StaticBody;
+        bdef.position.set(0, 0);
+        Body body = world.createBody(bdef);
 
-                bdef.type = BodyDef.BodyType.StaticBody;
-                bdef.position.set((rect.getX() + rect.getWidth() / 2) / PPM, (rect.getY() + rect.getHeight() / 2) / PPM);
-
-                body = world.createBody(bdef);
-
-                shape.setAsBox(rect.getWidth() / 2 / PPM, rect.getHeight() / 2 / PPM);
-                fdef.shape = shape;
-                body.createFixture(fdef);
-            }
+        Vector2 centre = new Vector2();
+        for (Rectangle rect : HitboxMerger.merge(mapSchema.getCollision())) {
+            shape.setAsBox(rect.width / 2, rect.height / 2, rect.getCenter(centre), 0);
+            fdef.shape = shape;
+            body.createFixture(fdef);
         }
     }
 
@@ -252,6 +316,11 @@ public class GameScreen implements Screen {
         }
 
 
+        // Bring the zoomed out map image up to date before drawing to the screen
+        if (mapLod != null) {
+            mapLod.update(fitViewport);
+        }
+
         // Clear the screen and start rendering
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -259,10 +328,17 @@ public class GameScreen implements Screen {
 
         //Draw the map and character
         game.batch.setProjectionMatrix(camera.combined);
-        game.batch.begin();
-        game.batch.end();
 
-        renderer.render();
+        // When zoomed out the pre-rendered image already contains the placed buildings
+        boolean lodActive = mapLod != null && mapLod.isActive(camera, fitViewport);
+        if (streamedMap != null) {
+            streamedMap.render(camera);
+        } else if (lodActive) {
+            mapLod.render(game.batch);
+        } else {
+            mapRenderer.render(camera);
+        }
+        buildingManager.setDrawPlacedBuildings(!lodActive);
 
         buildingManager.handleBuildingPlacement(game.batch, camera, fitViewport);
 
@@ -273,6 +349,7 @@ public class GameScreen implements Screen {
 
         game.batch.setProjectionMatrix(camera.combined);
         game.batch.begin();
+        students.render(game.batch, camera, studentRegion);
         player.draw(game.batch);
         if (playerNearReseption) {
             speechBubbleReception.draw(game.batch);
@@ -291,24 +368,129 @@ public class GameScreen implements Screen {
      * @param delta The time elapsed since the last frame.
      */
     public void update(float delta) {
-        world.step(1 / 60f, 6, 2);
+        handleInput(delta);
+        handleTimeScaleInput();
+        clock.advance(delta);
         player.update(delta);
         speechBubbleReception.update(delta);
         updateCamera();
-        renderer.setView(camera);
-        handleInput(delta);
-        moveRequest();
-        manager.update();
+        if (streamedMap != null) {
+            streamedMap.update(camera);
+        }
         hud.update(delta);
-        float deltaTime = Gdx.graphics.getDeltaTime();
-        buildingInteraction(buildingManager.updateBuildingInteractions(player.b2body.getPosition(), camera, deltaTime));
+        int pressed = buildingManager.updateBuildingInteractions(player.b2body.getPosition(), camera);
+        if (pressed >= 0) {
+            input.submit(InputCommand.interact(pressed));
+        }
+    }
+
+    /**
+     * Runs one tick of the player's part of the simulation: applies the commands taking effect on the
+     * tick, then moves the player and steps the physics world. Everything the player does goes through
+     * here, so a session plays out the same whenever its commands are given on the same ticks.
+     *
+     * @param delta The length of a tick, in seconds.
+     */
+    private void tick(float delta) {
+        input.poll(clock.getTick(), commands);
+        for (int i = 0; i < commands.size; i++) {
+            apply(commands.get(i));
+        }
+        commands.clear();
+
+        if (!playerPath.steer(player.b2body.getPosition(), CHARACTER_SPEED, pathVelocity)) {
+            // The last direction key checked wins when opposite keys are held
+            float horizontalForce = (directions & InputCommand.RIGHT) != 0 ? CHARACTER_SPEED
+                : (directions & InputCommand.LEFT) != 0 ? -CHARACTER_SPEED : 0;
+            float verticalForce = (directions & InputCommand.DOWN) != 0 ? -CHARACTER_SPEED
+                : (directions & InputCommand.UP) != 0 ? CHARACTER_SPEED : 0;
+            pathVelocity.set(horizontalForce, verticalForce);
+        }
+        player.b2body.setLinearVelocity(pathVelocity);
+        moveRequest();
+        PhysicsConfig.DEFAULT.step(world);
+    }
 
-        float worldTime = hud.getTimeCount();
-        if (worldTime % 60== 0 && !loggedMinutes.contains(worldTime) && worldTime != 0 && worldTime != 300){
-            loggedMinutes.add(worldTime);
-            studentLoan();
+    private void apply(InputCommand command) {
+        Vector2 position = player.b2body.getPosition();
+        switch (command.getType()) {
+            case InputCommand.MOVE:
+                directions = command.getValue();
+                if (directions != 0) {
+                    playerPath.stop();
+                }
+                break;
+            case InputCommand.WALK:
+                playerPath.follow(pathfinding.findPath(position.x, position.y, command.getX(), command.getY()));
+                break;
+            case InputCommand.ENTER:
+                if (playerNearReseption) {
+                    placingBuilding();
+                    if (showFullMap) {
+                        playerPath.stop();
+                    }
+                }
+                break;
+            case InputCommand.PLACE:
+                buildingManager.place(command.getValue(), command.getX(), command.getY());
+                break;
+            case InputCommand.INTERACT:
+                buildingInteraction(buildingManager.interact(command.getValue(), position));
+                break;
+            default:
+                break;
         }
+    }
 
+    /**
+     * Ends the session, recording or checking the state it ended in.
+     */
+    public void finishSession() {
+        input.finish(clock.getTick(), checksum());
+    }
+
+    /**
+     * @return true if the session is a recording being replayed
+     */
+    public boolean isReplay() {
+        return input.isReplay();
+    }
+
+    /**
+     * Hashes the state of the simulation: the player, their stats, the session timer and the students.
+     *
+     * @return The hash, equal for two runs only if they are in exactly the same state
+     */
+    public long checksum() {
+        StateHash hash = new StateHash();
+        hash.add(clock.getTick());
+        Vector2 position = player.b2body.getPosition();
+        Vector2 velocity = player.b2body.getLinearVelocity();
+        hash.add(position.x).add(position.y).add(velocity.x).add(velocity.y);
+        PlayerStats stats = hud.getStats();
+        hash.add(stats.getBuildingCounter()).add(stats.getSatisfaction()).add(stats.getCurrency())
+            .add(stats.getFatigue()).add(stats.getKnowledge());
+        hash.add(hud.getTimeCount());
+        students.hash(hash);
+        return hash.get();
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return The width of the map, in world units
+     */
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    /**
+     * @return The height of the map, in world units
+     */
+    public float getMapHeight() {
+        return mapHeight;
     }
 
     /**
@@ -337,6 +519,7 @@ public class GameScreen implements Screen {
     /**
      * Triggers the student loan event by increasing the player's currency.
      * This event will also display a pop-up message informing the player of the loan amount.
+     * Run on {@link #LOAN_SCHEDULE}.
      */
     private void studentLoan() {
         // Increase the currency
@@ -482,12 +665,12 @@ public class GameScreen implements Screen {
         if (!vector.isZero()) {
             if (vector.x < 0 && player.b2body.getPosition().x * PPM - (CHARACTER_SIZE_X / 2) - 1 <= 0) {
                 vector.x = 0;
-            } else if (vector.x > 0 && player.b2body.getPosition().x * PPM + (CHARACTER_SIZE_X / 2) + 2>= MAP_SIZE_X / PPM) {
+            } else if (vector.x > 0 && player.b2body.getPosition().x * PPM + (CHARACTER_SIZE_X / 2) + 2>= mapWidth * PPM) {
                 vector.x = 0;
             }
             if (vector.y < 0 && player.b2body.getPosition().y * PPM - (CHARACTER_SIZE_Y / 2) - 1 <= 0) {
                 vector.y = 0;
-            } else if (vector.y > 0 && player.b2body.getPosition().y * PPM + (CHARACTER_SIZE_Y / 2) >= MAP_SIZE_Y / PPM) {
+            } else if (vector.y > 0 && player.b2body.getPosition().y * PPM + (CHARACTER_SIZE_Y / 2) >= mapHeight * PPM) {
                 vector.y = 0;
             }
             player.b2body.setLinearVelocity(vector);
@@ -526,8 +709,8 @@ public class GameScreen implements Screen {
 
         //if showing full map resize correctly
         if(showFullMap) {
-            camera.zoom = Math.min(MAP_SIZE_X / camera.viewportWidth, MAP_SIZE_Y / camera.viewportHeight);
-            camera.position.set(MAP_SIZE_X / 2, MAP_SIZE_Y / 2, 0);
+            camera.zoom = Math.min(mapWidth / camera.viewportWidth, mapHeight / camera.viewportHeight);
+            camera.position.set(mapWidth / 2, mapHeight / 2, 0);
             camera.update();
         }
 
@@ -561,8 +744,13 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        game.batch.dispose();
-        map.dispose();
+        if (streamedMap != null) {
+            streamedMap.dispose();
+        } else {
+            mapLod.dispose();
+            mapRenderer.dispose();
+            renderer.dispose();
+        }
         b2dr.dispose();
         world.dispose();
         stage.dispose();
@@ -625,7 +813,7 @@ public class GameScreen implements Screen {
             float startY = (camera.viewportHeight / 2);
 
             // Apply boundary restrictions to the camera to prevent it from going out of bounds
-            boundary(camera, startX, startY, 100, 50);
+            boundary(camera, startX, startY, mapWidth, mapHeight);
 
             // Update the camera to apply the changes
             camera.update();
@@ -634,28 +822,62 @@ public class GameScreen implements Screen {
 
     /**
      * Handles the player input for movement and interaction (WASD/Arrow keys and ENTER).
+     * Right clicking on the map walks the player there, until a movement key is pressed.
+     * The input is submitted as commands, which take effect on the next tick.
      *
      * @param deltaTime The time elapsed since the last frame.
      */
     private void handleInput(float deltaTime) {
-        float horizontalForce = 0;
-        float verticalForce = 0;
+        int held = 0;
         if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            verticalForce = CHARACTER_SPEED;
+            held |= InputCommand.UP;
         }
         if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            verticalForce = -CHARACTER_SPEED;
+            held |= InputCommand.DOWN;
         }
         if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            horizontalForce = -CHARACTER_SPEED;
+            held |= InputCommand.LEFT;
         }
         if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            horizontalForce = CHARACTER_SPEED;
+            held |= InputCommand.RIGHT;
+        }
+        input.submit(InputCommand.move(held));
+
+        if (held == 0 && !showFullMap && Gdx.input.isButtonJustPressed(Input.Buttons.RIGHT)) {
+            Vector3 target = camera.unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0),
+                fitViewport.getScreenX(), fitViewport.getScreenY(), fitViewport.getScreenWidth(), fitViewport.getScreenHeight());
+            input.submit(InputCommand.walk(target.x, target.y));
         }
-        player.b2body.setLinearVelocity(horizontalForce, verticalForce);
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) && playerNearReseption) {
-            placingBuilding();
+            input.submit(InputCommand.enter());
+        }
+    }
+
+    /**
+     * Handles the time scale hotkeys: SPACE pauses and resumes the simulation, and 1 to 4 run it at
+     * 1x, 2x, 4x or as fast as possible. The player moves on the simulation's ticks too, so they
+     * speed up along with everything else.
+     */
+    private void handleTimeScaleInput() {
+        TimeScale current = clock.getTimeScale();
+        TimeScale next = current;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+            next = current == TimeScale.PAUSED ? resumeTimeScale : TimeScale.PAUSED;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+            next = TimeScale.NORMAL;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+            next = TimeScale.DOUBLE;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
+            next = TimeScale.QUADRUPLE;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
+            next = TimeScale.MAX;
+        }
+        if (next != current) {
+            if (current != TimeScale.PAUSED) {
+                resumeTimeScale = current;
+            }
+            hud.setTimeScale(next);
         }
     }
 
@@ -742,8 +964,8 @@ public class GameScreen implements Screen {
             originalZoom = camera.zoom;
 
             // Adjust the camera to show the whole map
-            camera.zoom = Math.min(MAP_SIZE_X / PPM / camera.viewportWidth / PPM, MAP_SIZE_Y / PPM / camera.viewportHeight / PPM);
-            camera.position.set(MAP_SIZE_X / PPM / 2 / PPM, MAP_SIZE_Y / PPM /  2 / PPM, 0);
+            camera.zoom = Math.min(mapWidth / camera.viewportWidth, mapHeight / camera.viewportHeight);
+            camera.position.set(mapWidth / 2, mapHeight / 2, 0);
             camera.update();
             showFullMap = true;
         } else {
@@ -1,6 +1,7 @@
 package com.UniSim.game.Screens;
 
 import com.UniSim.game.PauseMenu;
+import com.UniSim.game.GameAssets;
 import com.UniSim.game.UniSim;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
@@ -8,9 +9,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -36,7 +35,6 @@ public class HowToPlayScreen implements Screen {
     private Stage stage;
     private Skin skin;
 
-    private Texture backgroundTexture;
 
     private LandingScreen landingScreen; // Reference to LandingScreen for returning
     private PauseMenu pauseMenu;         // Reference to PauseMenu for returning
@@ -80,9 +78,6 @@ public class HowToPlayScreen implements Screen {
     private void initialize() {
         stage = new Stage(new FitViewport(2560, 1440));
         skin = new Skin(Gdx.files.internal("uiskin.json"));
-        Gdx.input.setInputProcessor(stage);
-
-        backgroundTexture = new Texture("LoadScreenBackground.png");
 
         // Create a table to organize UI elements
         Table table = new Table();
@@ -106,14 +101,14 @@ public class HowToPlayScreen implements Screen {
         });
 
         // Large text box with instructions
-        BitmapFont customFont = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont = GameAssets.font(GameAssets.FONT);
         customFont.getData().setScale(0.9f);
 
         LabelStyle customLabelStyle = new LabelStyle();
         customLabelStyle.font = customFont;
         customLabelStyle.fontColor = Color.BLACK;
 
-        BitmapFont customFont1 = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        BitmapFont customFont1 = GameAssets.font(GameAssets.FONT);
         customFont1.getData().setScale(0.14f);
 
 
@@ -155,18 +150,16 @@ public class HowToPlayScreen implements Screen {
     }
 
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(1, 1, 1, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        SpriteBatch batch = new SpriteBatch();
-
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        game.drawMenuBackground();
 
         stage.act();
         stage.draw();
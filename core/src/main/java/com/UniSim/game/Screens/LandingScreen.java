@@ -1,14 +1,13 @@
 package com.UniSim.game.Screens;
 
+import com.UniSim.game.Stats.Leaderboard;
+import com.UniSim.game.GameAssets;
 import com.UniSim.game.UniSim;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -31,7 +30,6 @@ import java.util.logging.FileHandler;
  */
 public class LandingScreen implements Screen {
     private UniSim game;
-    private Texture backgroundTexture;
     private Label.LabelStyle labelStyle;
     private Label.LabelStyle titleLabelStyle;
     private Music music;  // Initialize music
@@ -56,28 +54,24 @@ public class LandingScreen implements Screen {
      */
     public LandingScreen(UniSim game) {
         this.game = game;
-        this.leaderboardSat = getLeaderboardSat();
 
         // Initialize music
         music = Gdx.audio.newMusic(Gdx.files.internal("music/awesomeness.wav"));
         music.setLooping(true);
         music.setVolume(1.0f);
-        music.play();
 
         // Set up stage and UI elements
         //stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         stage = new Stage(new FitViewport(2560, 1440));
-        Gdx.input.setInputProcessor(stage);
 
         skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture("LoadScreenBackground.png");
 
-        font = new BitmapFont(Gdx.files.internal("Font1.fnt"));
+        font = GameAssets.font(GameAssets.FONT);
         font.getData().setScale(0.8f); // Adjusted scale to increase button text size
         labelStyle = new Label.LabelStyle();
         labelStyle.font = font;
 
-        titleFont = new BitmapFont(Gdx.files.internal("titleFont.fnt"));
+        titleFont = GameAssets.font(GameAssets.TITLE_FONT);
         titleFont.getData().setScale(1f);
         titleLabelStyle = new Label.LabelStyle();
         titleLabelStyle.font = titleFont;
@@ -100,28 +94,28 @@ public class LandingScreen implements Screen {
                 if (music.isPlaying()) {
                     music.stop();  // Stop LandingScreen's music completely before switching to GameScreen
                 }
-                game.setScreen(new GameScreen(game, music));
+                game.setScreen(new LoadingScreen(game, music));
             }
         });
 
         settingsButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new SettingsScreen(game, LandingScreen.this, music));  // Pass music to SettingsScreen
+                game.showScreen("settings", () -> new SettingsScreen(game, LandingScreen.this, music));  // Pass music to SettingsScreen
             }
         });
 
         howToPlayButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new HowToPlayScreen(game, LandingScreen.this, music));
+                game.showScreen("howToPlay", () -> new HowToPlayScreen(game, LandingScreen.this, music));
             }
         });
 
         creditsButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new CreditsScreen(game, LandingScreen.this, music));
+                game.showScreen("credits", () -> new CreditsScreen(game, LandingScreen.this, music));
             }
         });
 
@@ -136,13 +130,7 @@ public class LandingScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 clearLeaderboardSat();
-                leaderboardTable.clear();
-                Label rankHeader = new Label("Rank", skin);
-                Label timeHeader = new Label("Time", skin);
-
-                leaderboardTable.add(rankHeader).pad(5).left();
-                leaderboardTable.add(timeHeader).pad(5).expandX().center();
-                leaderboardTable.row();
+                refreshLeaderboard();
             }
         });
 
@@ -151,29 +139,6 @@ public class LandingScreen implements Screen {
         this.leaderboardTable = new Table();
         leaderboardTable.top().left();
 
-        // Sort and limit leaderboard times to top ten
-        List<Float> sortedTimes = new ArrayList<>(leaderboardSat);
-        sortedTimes.sort(Comparator.reverseOrder());
-        int limit = Math.min(10, sortedTimes.size());
-
-        Label rankHeader = new Label("Rank", skin);
-        Label timeHeader = new Label("Time", skin);
-
-        leaderboardTable.add(rankHeader).pad(5).left();
-        leaderboardTable.add(timeHeader).pad(5).expandX().center();
-        leaderboardTable.row();
-
-        for (int i = 0; i < limit; i++) {
-            Label rankLabel = new Label((i + 1) + ".", skin);
-            Label timeLabel = new Label(String.format("%.1f satisfaction", sortedTimes.get(i)), skin);
-            rankLabel.setColor(0, 1f, 0.5f, 1);
-            timeLabel.setColor(0, 1f, 0.5f, 1);
-
-            leaderboardTable.add(rankLabel).pad(5).left();
-            leaderboardTable.add(timeLabel).pad(5).expandX().center();
-            leaderboardTable.row();
-        }
-
         ScrollPane scrollPane = new ScrollPane(leaderboardTable, skin);
         scrollPane.setSize(1070, 580);
         scrollPane.setPosition(800, 250);
@@ -216,8 +181,48 @@ public class LandingScreen implements Screen {
         stage.addActor(clearLeaderboardButton);
     }
 
+    /**
+     * Called whenever the landing screen becomes active, either on start-up or when
+     * returning from another screen. Reloads the leaderboard and resumes the music.
+     */
     @Override
     public void show() {
+        Gdx.input.setInputProcessor(stage);
+        refreshLeaderboard();
+        if (!music.isPlaying()) {
+            music.play();
+        }
+    }
+
+    /**
+     * Rebuilds the leaderboard table from the scores saved on disk, showing the top ten.
+     */
+    private void refreshLeaderboard() {
+        leaderboardSat = getLeaderboardSat();
+        leaderboardTable.clear();
+
+        // Sort and limit leaderboard times to top ten
+        List<Float> sortedTimes = new ArrayList<>(leaderboardSat);
+        sortedTimes.sort(Comparator.reverseOrder());
+        int limit = Math.min(10, sortedTimes.size());
+
+        Label rankHeader = new Label("Rank", skin);
+        Label timeHeader = new Label("Time", skin);
+
+        leaderboardTable.add(rankHeader).pad(5).left();
+        leaderboardTable.add(timeHeader).pad(5).expandX().center();
+        leaderboardTable.row();
+
+        for (int i = 0; i < limit; i++) {
+            Label rankLabel = new Label((i + 1) + ".", skin);
+            Label timeLabel = new Label(String.format("%.1f satisfaction", sortedTimes.get(i)), skin);
+            rankLabel.setColor(0, 1f, 0.5f, 1);
+            timeLabel.setColor(0, 1f, 0.5f, 1);
+
+            leaderboardTable.add(rankLabel).pad(5).left();
+            leaderboardTable.add(timeLabel).pad(5).expandX().center();
+            leaderboardTable.row();
+        }
     }
 
     @Override
@@ -225,11 +230,7 @@ public class LandingScreen implements Screen {
         Gdx.gl.glClearColor(1, 1, 1, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        SpriteBatch batch = new SpriteBatch();
-
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        game.drawMenuBackground();
 
         stage.act(delta);
         stage.draw();
@@ -244,7 +245,6 @@ public class LandingScreen implements Screen {
     public void dispose() {
         stage.dispose();
         skin.dispose();
-        backgroundTexture.dispose();
         music.dispose();  // Dispose music when LandingScreen is no longer needed
     }
 
@@ -266,36 +266,13 @@ public class LandingScreen implements Screen {
      * @return A list of satisfaction scores from the leaderboard
      */
     private List<Float> getLeaderboardSat() {
-        List<Float> leaderboardSat = new ArrayList<>();
-        FileHandle file = Gdx.files.local("leaderboard.txt");
-
-        if (file.exists()) {
-            // Read the entire file as a string
-            String fileContents = file.readString();
-            // Split file into lines (assuming each line is a satisfaction value)
-            String[] lines = fileContents.split("\n");
-
-            // Parse each line as a float and add it to the list
-            for (String line : lines) {
-                try {
-                    float satisfaction = Float.parseFloat(line.trim());  // Convert line to float
-                    leaderboardSat.add(satisfaction);
-                } catch (NumberFormatException e) {
-                    System.err.println("Error parsing value: " + line);
-                }
-            }
-        }
-        return leaderboardSat;
+        return new ArrayList<>(new Leaderboard().load().getScores());
     }
 
     /**
      * Clears the leaderboard satisfaction scores from the file.
      */
     public void clearLeaderboardSat() {
-        // Get a handle to the file
-        FileHandle file = Gdx.files.local("leaderboard.txt");
-
-        // Write an empty string to clear the file's content
-        file.writeString("", false);
+        new Leaderboard().clear();
     }
 }
@@ -0,0 +1,112 @@
+package com.UniSim.game.Screens;
+
+import com.UniSim.game.GameAssets;
+import com.UniSim.game.UniSim;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * LoadingScreen is shown between the landing screen and the game.
+ * It queues every game asset in the shared AssetManager and loads them a little each frame,
+ * drawing a progress bar, then switches to the GameScreen once everything is ready.
+ */
+public class LoadingScreen implements Screen {
+
+    private static final int LOAD_BUDGET_MILLIS = 12; // Time spent loading per frame
+    private static final float BAR_WIDTH = 0.5f;     // Fraction of the screen width
+    private static final float BAR_HEIGHT = 30;
+
+    private final UniSim game;
+    private final Music music;
+
+    private OrthographicCamera camera;
+    private ShapeRenderer shapeRenderer;
+    private BitmapFont font;
+    private Texture backgroundTexture;
+
+    /**
+     * Constructor for the LoadingScreen.
+     *
+     * @param game The game instance for screen switching
+     * @param music The landing screen music, passed on to the GameScreen
+     */
+    public LoadingScreen(UniSim game, Music music) {
+        this.game = game;
+        this.music = music;
+        camera = new OrthographicCamera();
+        shapeRenderer = new ShapeRenderer();
+        font = new BitmapFont();
+        font.getData().setScale(2f);
+        backgroundTexture = GameAssets.texture(GameAssets.MENU_BACKGROUND);
+
+        GameAssets.queueGameAssets();
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void render(float delta) {
+        boolean finished = GameAssets.update(LOAD_BUDGET_MILLIS);
+        float progress = GameAssets.getProgress();
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        camera.setToOrtho(false, width, height);
+
+        game.batch.setProjectionMatrix(camera.combined);
+        game.batch.begin();
+        game.batch.draw(backgroundTexture, 0, 0, width, height);
+        font.draw(game.batch, String.format("Loading... %d%%", (int) (progress * 100)),
+            width * (1 - BAR_WIDTH) / 2, height / 2 + BAR_HEIGHT * 2);
+        game.batch.end();
+
+        float barX = width * (1 - BAR_WIDTH) / 2;
+        float barY = height / 2 - BAR_HEIGHT / 2;
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(barX, barY, width * BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(0, 1f, 0.5f, 1);
+        shapeRenderer.rect(barX, barY, width * BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+
+        if (finished) {
+            game.setScreen(new GameScreen(game, music));
+            dispose();
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+        font.dispose();
+    }
+}
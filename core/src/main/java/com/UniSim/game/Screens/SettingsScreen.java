@@ -7,9 +7,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
@@ -31,7 +29,6 @@ public class SettingsScreen implements Screen {
     private UniSim game;
     private Stage stage;
     private Skin skin;
-    private Texture backgroundTexture;
     private Music music;  // Music instance to control
     private LandingScreen landingScreen;
     private PauseMenu pauseMenu;
@@ -73,10 +70,6 @@ public class SettingsScreen implements Screen {
     private void initialize() {
         stage = new Stage(new FitViewport(2560, 1440));
         skin = new Skin(Gdx.files.internal("uiskin.json"));
-        Gdx.input.setInputProcessor(stage);
-
-        // Load background texture
-        backgroundTexture = new Texture("LoadScreenBackground.png");
 
         Table table = new Table();
         table.setFillParent(true);
@@ -173,17 +166,16 @@ public class SettingsScreen implements Screen {
 
     // Standard Screen interface methods
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.5f, 0.5f, 0.5f, 1);  // Set background color
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        SpriteBatch batch = new SpriteBatch();
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        game.drawMenuBackground();
 
         stage.act(delta);
         stage.draw();
@@ -207,6 +199,5 @@ public class SettingsScreen implements Screen {
     public void dispose() {
         stage.dispose();
         skin.dispose();
-        backgroundTexture.dispose();
     }
 }
@@ -0,0 +1,74 @@
+package com.UniSim.game.Simulation;
+
+/**
+ * A Schedule describes when a recurring game event fires, in seconds of simulation time since the
+ * game started, for example {@code Schedule.every(60).until(300)} for once a minute during the
+ * first five minutes. Times are rounded to whole ticks of the {@link SimulationClock}, so a
+ * schedule fires exactly once per period on exactly the same ticks every game, whatever the frame
+ * rate. Schedules are immutable; each method returns a new one.
+ */
+public final class Schedule {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final long first;
+    private final long period;
+    private final long end;
+
+    private Schedule(long first, long period, long end) {
+        this.first = first;
+        this.period = period;
+        this.end = end;
+    }
+
+    /**
+     * @param seconds The time to fire at
+     * @return A schedule firing once
+     */
+    public static Schedule at(float seconds) {
+        return new Schedule(SimulationClock.toTicks(seconds), 0, NEVER);
+    }
+
+    /**
+     * @param seconds The time between firings, at least one tick
+     * @return A schedule firing forever, first after one period
+     */
+    public static Schedule every(float seconds) {
+        long period = Math.max(1, SimulationClock.toTicks(seconds));
+        return new Schedule(period, period, NEVER);
+    }
+
+    /**
+     * @param seconds The time to fire at first
+     * @return A copy of this schedule starting at the given time
+     */
+    public Schedule from(float seconds) {
+        return new Schedule(SimulationClock.toTicks(seconds), period, end);
+    }
+
+    /**
+     * @param seconds The time to stop at; the schedule does not fire at this time itself
+     * @return A copy of this schedule stopping at the given time
+     */
+    public Schedule until(float seconds) {
+        return new Schedule(first, period, SimulationClock.toTicks(seconds));
+    }
+
+    /**
+     * Finds when the schedule next fires.
+     *
+     * @param tick The earliest tick to consider
+     * @return The first tick at or after the given one the schedule fires on, or -1 if it never fires again
+     */
+    public long nextTick(long tick) {
+        long next;
+        if (tick <= first) {
+            next = first;
+        } else if (period == 0) {
+            return -1;
+        } else {
+            next = first + (tick - first + period - 1) / period * period;
+        }
+        return next < end ? next : -1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.UniSim.game.Simulation;
+
+/**
+ * A task run by a {@link TimerWheel} once its tick comes, optionally repeating. Tasks are linked
+ * straight into the wheel's slots, so scheduling allocates nothing and a task can be rescheduled
+ * as often as needed. A task can be scheduled on one wheel at a time.
+ */
+public abstract class ScheduledTask {
+
+    TimerWheel wheel;
+    ScheduledTask previous;
+    ScheduledTask next;
+    int level;
+    int slot;
+    long deadline;
+    long period;
+    boolean scheduled;
+
+    /**
+     * Runs the task. Called on the thread advancing the wheel.
+     */
+    protected abstract void run();
+
+    /**
+     * Stops the task from running, or from repeating if it is running now.
+     */
+    public void cancel() {
+        period = 0;
+        if (scheduled) {
+            wheel.remove(this);
+        }
+    }
+
+    public boolean isScheduled() {
+        return scheduled;
+    }
+
+    /**
+     * @return The tick the task is due on
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,225 @@
+package com.UniSim.game.Simulation;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * SimulationClock runs the simulation in fixed ticks of 1/60 of a second, however long each frame
+ * takes, so the simulation behaves the same at any frame rate. Every timed event in the game is a
+ * {@link ScheduledTask} on the clock's {@link TimerWheel}, rather than a timer counted down each
+ * frame; systems that need to run every tick register as a {@link TickListener}.
+ * <p>
+ * The clock runs at a {@link TimeScale}: paused, a multiple of real time, or as fast as possible.
+ * It also holds the simulation's random numbers, so a run started from the same seed with the same
+ * input plays out exactly the same.
+ */
+public class SimulationClock {
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float TICK_TIME = 1f / TICKS_PER_SECOND;
+    // Most ticks run in one frame at 1x; after a long stall the simulation slows down rather than freezing
+    private static final int MAX_TICKS_PER_FRAME = 10;
+    // Real seconds spent running ticks each frame at the maximum time scale, so the screen is still drawn
+    private static final float MAX_FRAME_BUDGET = 0.04f;
+
+    /**
+     * Listener run once every tick, after the tasks due on that tick.
+     */
+    public interface TickListener {
+        void tick(float delta);
+    }
+
+    private final TimerWheel wheel;
+    private final Array<TickListener> listeners;
+    private final RandomXS128 random;
+    private float accumulator;
+    private TimeScale timeScale = TimeScale.NORMAL;
+
+    /**
+     * @param seed The seed of the simulation's random numbers
+     */
+    public SimulationClock(long seed) {
+        wheel = new TimerWheel();
+        listeners = new Array<>();
+        random = new RandomXS128(seed);
+    }
+
+    public void addTickListener(TickListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Runs as many ticks as the time passed covers at the current time scale, keeping the remainder
+     * for the next frame. At {@link TimeScale#MAX} it instead runs ticks for the frame budget.
+     *
+     * @param delta The real seconds passed since the last frame
+     * @return The number of ticks run
+     */
+    public int advance(float delta) {
+        if (timeScale == TimeScale.MAX) {
+            return advanceFor(MAX_FRAME_BUDGET);
+        }
+        int multiplier = timeScale.getMultiplier();
+        int maxTicks = MAX_TICKS_PER_FRAME * multiplier;
+        accumulator += delta * multiplier;
+        int ticks = 0;
+        while (accumulator >= TICK_TIME && ticks < maxTicks) {
+            step();
+            accumulator -= TICK_TIME;
+            ticks++;
+        }
+        if (ticks == maxTicks) {
+            accumulator = Math.min(accumulator, TICK_TIME);
+        }
+        return ticks;
+    }
+
+    /**
+     * Runs ticks until the given real time has been spent, at least one.
+     *
+     * @param budget The real seconds to spend
+     * @return The number of ticks run
+     */
+    public int advanceFor(float budget) {
+        long deadline = System.nanoTime() + (long) (budget * 1e9f);
+        int ticks = 0;
+        do {
+            step();
+            ticks++;
+        } while (System.nanoTime() < deadline);
+        accumulator = 0;
+        return ticks;
+    }
+
+    /**
+     * Runs the simulation forward immediately, whatever the time scale, for headless runs.
+     *
+     * @param seconds The simulated seconds to run, rounded to the nearest tick
+     */
+    public void run(float seconds) {
+        for (long i = toTicks(seconds); i > 0; i--) {
+            step();
+        }
+    }
+
+    /**
+     * Runs a single tick: the tasks due on it, then the tick listeners.
+     */
+    public void step() {
+        wheel.advance();
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).tick(TICK_TIME);
+        }
+    }
+
+    /**
+     * Schedules a task to run once.
+     *
+     * @param delay The seconds from now to run it after, rounded to the nearest tick
+     */
+    public void schedule(ScheduledTask task, float delay) {
+        wheel.schedule(task, toTicks(delay));
+    }
+
+    /**
+     * Schedules a task to run repeatedly until cancelled.
+     *
+     * @param delay The seconds from now to first run it after, rounded to the nearest tick
+     * @param period The seconds between runs, rounded to the nearest tick
+     */
+    public void schedule(ScheduledTask task, float delay, float period) {
+        wheel.schedule(task, toTicks(delay), Math.max(1, toTicks(period)));
+    }
+
+    /**
+     * Registers a game event to fire on a schedule. Only the event's next firing is ever on the
+     * timer wheel, so hundreds of recurring events cost nothing between firings.
+     *
+     * @param schedule When the event fires
+     * @param action What the event does
+     * @return The event's task, which can be cancelled to stop the event
+     */
+    public ScheduledTask schedule(Schedule schedule, Runnable action) {
+        ScheduledEvent event = new ScheduledEvent(schedule, action);
+        event.scheduleNext();
+        return event;
+    }
+
+    /**
+     * @return The seconds until a task runs, or 0 if it is not scheduled
+     */
+    public float getRemaining(ScheduledTask task) {
+        return task.isScheduled() ? (task.getDeadline() - wheel.getTick()) * TICK_TIME : 0;
+    }
+
+    public static long toTicks(float seconds) {
+        return Math.round(seconds * TICKS_PER_SECOND);
+    }
+
+    public long getTick() {
+        return wheel.getTick();
+    }
+
+    /**
+     * @return The simulated seconds passed
+     */
+    public float getTime() {
+        return wheel.getTick() * TICK_TIME;
+    }
+
+    /**
+     * @return The random numbers every part of the simulation must draw from, never {@code MathUtils.random}
+     */
+    public RandomXS128 getRandom() {
+        return random;
+    }
+
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+
+    public void setTimeScale(TimeScale timeScale) {
+        this.timeScale = timeScale;
+        accumulator = 0;
+    }
+
+    public TimerWheel getWheel() {
+        return wheel;
+    }
+
+    /**
+     * Task that runs an event's action and then schedules its next firing.
+     */
+    private class ScheduledEvent extends ScheduledTask {
+
+        private final Schedule schedule;
+        private final Runnable action;
+        private boolean cancelled;
+
+        ScheduledEvent(Schedule schedule, Runnable action) {
+            this.schedule = schedule;
+            this.action = action;
+        }
+
+        void scheduleNext() {
+            long next = schedule.nextTick(wheel.getTick() + 1);
+            if (next >= 0) {
+                wheel.schedule(this, next - wheel.getTick());
+            }
+        }
+
+        @Override
+        protected void run() {
+            action.run();
+            if (!cancelled && !isScheduled()) {
+                scheduleNext();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            super.cancel();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.UniSim.game.Simulation;
+
+/**
+ * How fast the {@link SimulationClock} runs relative to real time. {@link #MAX} is not a fixed
+ * multiple: the clock runs as many ticks as fit in its frame budget, so the simulation goes as fast
+ * as the CPU allows while the screen is still drawn a few times a second.
+ */
+public enum TimeScale {
+    PAUSED(0, "PAUSED"),
+    NORMAL(1, "1x"),
+    DOUBLE(2, "2x"),
+    QUADRUPLE(4, "4x"),
+    MAX(0, "MAX");
+
+    private final int multiplier;
+    private final String label;
+
+    TimeScale(int multiplier, String label) {
+        this.multiplier = multiplier;
+        this.label = label;
+    }
+
+    /**
+     * @return The number of simulated seconds per real second, or 0 when paused or unbounded
+     */
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return The text shown for the scale on the HUD
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,186 @@
+package com.UniSim.game.Simulation;
+
+/**
+ * TimerWheel schedules tasks by tick with a hierarchy of timing wheels, so adding, cancelling and
+ * running a task each cost O(1) however many are waiting. The first level has a slot for each of
+ * the next 64 ticks. Each level above covers 64 times the span of the one below, and its slots are
+ * emptied into the level below as the wheel reaches them. Four levels cover more than three days
+ * at 60 ticks a second; tasks further off wait in an overflow list until they come within range.
+ */
+public class TimerWheel {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+    // The overflow list, and the tasks being run this tick, are kept as the only slot of extra levels
+    private static final int OVERFLOW = LEVELS;
+    private static final int RUNNING = LEVELS + 1;
+
+    private final ScheduledTask[][] heads;
+    private final ScheduledTask[][] tails;
+    private long tick;
+    private int size;
+
+    public TimerWheel() {
+        heads = new ScheduledTask[LEVELS + 2][SLOTS];
+        tails = new ScheduledTask[LEVELS + 2][SLOTS];
+    }
+
+    /**
+     * Schedules a task to run once.
+     *
+     * @param task The task, which is moved if it is already scheduled
+     * @param delay The number of ticks from now to run it after, at least one
+     */
+    public void schedule(ScheduledTask task, long delay) {
+        schedule(task, delay, 0);
+    }
+
+    /**
+     * Schedules a task to run repeatedly until cancelled.
+     *
+     * @param task The task, which is moved if it is already scheduled
+     * @param delay The number of ticks from now to first run it after, at least one
+     * @param period The number of ticks between runs, or 0 to run it once
+     */
+    public void schedule(ScheduledTask task, long delay, long period) {
+        if (task.scheduled) {
+            task.wheel.remove(task);
+        }
+        task.wheel = this;
+        task.deadline = tick + Math.max(1, delay);
+        task.period = period;
+        insert(task);
+    }
+
+    /**
+     * Moves the wheel on by one tick, running every task due on it in the order they were scheduled.
+     */
+    public void advance() {
+        tick++;
+        // Empty the higher levels first, since what they hold may land in a lower slot due now
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                if (level == LEVELS - 1) {
+                    cascade(OVERFLOW, 0);
+                }
+                cascade(level, (int) (tick >> (SLOT_BITS * level)) & SLOT_MASK);
+            }
+        }
+
+        // Move the tasks due now to a list of their own, so a task can still cancel another due
+        // on the same tick, and run them one at a time from its head
+        int slot = (int) tick & SLOT_MASK;
+        ScheduledTask due = heads[0][slot];
+        if (due == null) {
+            return;
+        }
+        heads[RUNNING][0] = due;
+        tails[RUNNING][0] = tails[0][slot];
+        heads[0][slot] = null;
+        tails[0][slot] = null;
+        for (ScheduledTask task = due; task != null; task = task.next) {
+            task.level = RUNNING;
+            task.slot = 0;
+        }
+        ScheduledTask task;
+        while ((task = heads[RUNNING][0]) != null) {
+            remove(task);
+            task.run();
+            if (task.period > 0 && !task.scheduled) {
+                task.deadline = tick + task.period;
+                insert(task);
+            }
+        }
+    }
+
+    /**
+     * Moves every task in a slot down to the levels below.
+     */
+    private void cascade(int level, int slot) {
+        ScheduledTask task = detach(level, slot);
+        while (task != null) {
+            ScheduledTask next = task.next;
+            insert(task);
+            task = next;
+        }
+    }
+
+    /**
+     * Empties a slot.
+     *
+     * @return The first task that was in the slot, linked to the rest through {@code next}
+     */
+    private ScheduledTask detach(int level, int slot) {
+        ScheduledTask task = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        for (ScheduledTask t = task; t != null; t = t.next) {
+            size--;
+        }
+        return task;
+    }
+
+    private void insert(ScheduledTask task) {
+        long remaining = task.deadline - tick;
+        int level;
+        int slot;
+        if (remaining >= RANGE) {
+            level = OVERFLOW;
+            slot = 0;
+        } else {
+            level = 0;
+            while (level < LEVELS - 1 && remaining >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+            slot = (int) (task.deadline >> (SLOT_BITS * level)) & SLOT_MASK;
+        }
+
+        // Tasks go on the end of their slot, so tasks due on the same tick run in the order scheduled
+        task.level = level;
+        task.slot = slot;
+        task.previous = tails[level][slot];
+        task.next = null;
+        if (task.previous == null) {
+            heads[level][slot] = task;
+        } else {
+            task.previous.next = task;
+        }
+        tails[level][slot] = task;
+        task.scheduled = true;
+        size++;
+    }
+
+    void remove(ScheduledTask task) {
+        if (task.previous == null) {
+            heads[task.level][task.slot] = task.next;
+        } else {
+            task.previous.next = task.next;
+        }
+        if (task.next == null) {
+            tails[task.level][task.slot] = task.previous;
+        } else {
+            task.next.previous = task.previous;
+        }
+        task.previous = null;
+        task.next = null;
+        task.scheduled = false;
+        size--;
+    }
+
+    /**
+     * @return The number of ticks the wheel has advanced
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return The number of tasks waiting to run
+     */
+    public int size() {
+        return size;
+    }
+}
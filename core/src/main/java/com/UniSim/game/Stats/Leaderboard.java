@@ -0,0 +1,259 @@
+package com.UniSim.game.Stats;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The Leaderboard class stores the final satisfaction scores of finished games.
+ * Scores are kept in memory and written to disk in batches. Every write goes to a temporary
+ * file first, which is flushed to the disk and then renamed over the real file, so a crash
+ * can never leave a half-written or empty leaderboard behind.
+ *
+ * Each record is stored on its own line as "score;checksum", where the checksum is the CRC32
+ * of the score text. Records that fail the checksum are dropped by the recovery pass in {@link #load()}.
+ * Lines written by older versions of the game (a plain score with no checksum) are still accepted.
+ */
+public class Leaderboard {
+
+    public static final String FILE_NAME = "leaderboard.txt";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final char SEPARATOR = ';';
+
+    private static Path defaultFile;
+
+    private final Path file;
+    private final Path tempFile;
+    private final List<Float> scores;
+    private final List<Float> pending;
+
+    /**
+     * Creates a leaderboard backed by the default file, which is {@link #FILE_NAME} in the local storage
+     * unless another was set with {@link #setDefaultFile(Path)}.
+     */
+    public Leaderboard() {
+        this(defaultFile != null ? defaultFile : Gdx.files.local(FILE_NAME).file().toPath());
+    }
+
+    /**
+     * Changes the file that leaderboards created by the screens are stored in, so tests can keep
+     * their scores out of the player's leaderboard.
+     *
+     * @param file The file to store scores in, or null for the local storage
+     */
+    public static void setDefaultFile(Path file) {
+        defaultFile = file;
+    }
+
+    /**
+     * Creates a leaderboard backed by the given file.
+     *
+     * @param file The file the scores are stored in
+     */
+    public Leaderboard(Path file) {
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + TEMP_SUFFIX);
+        this.scores = new ArrayList<>();
+        this.pending = new ArrayList<>();
+    }
+
+    /**
+     * Loads the scores from disk, running a recovery pass first.
+     * If a previous write was interrupted before the rename, the temporary file is either
+     * promoted (when the real file is missing) or discarded (when the real file is still intact).
+     * Corrupt records are skipped, and the file is rewritten without them.
+     *
+     * @return This leaderboard, for chaining
+     */
+    public Leaderboard load() {
+        scores.clear();
+        pending.clear();
+        try {
+            recoverTempFile();
+            if (!Files.exists(file)) {
+                return this;
+            }
+
+            boolean damaged = false;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    Float score = parseRecord(line);
+                    if (score == null) {
+                        Gdx.app.error("Leaderboard", "Dropping corrupt record: " + line);
+                        damaged = true;
+                    } else {
+                        scores.add(score);
+                    }
+                }
+            }
+
+            if (damaged) {
+                writeAtomically(scores);
+            }
+        } catch (IOException e) {
+            Gdx.app.error("Leaderboard", "Error reading leaderboard: " + file, e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns all the scores currently on the leaderboard, including scores not yet flushed.
+     *
+     * @return An unmodifiable list of satisfaction scores
+     */
+    public List<Float> getScores() {
+        List<Float> all = new ArrayList<>(scores);
+        all.addAll(pending);
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Queues a score to be written on the next {@link #flush()}.
+     *
+     * @param satisfaction The final satisfaction score
+     */
+    public void addScore(float satisfaction) {
+        pending.add(satisfaction);
+    }
+
+    /**
+     * Writes every queued score to disk in a single atomic write.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Float> all = new ArrayList<>(scores);
+        all.addAll(pending);
+        try {
+            writeAtomically(all);
+            scores.addAll(pending);
+            pending.clear();
+        } catch (IOException e) {
+            Gdx.app.error("Leaderboard", "Error saving leaderboard: " + file, e);
+        }
+    }
+
+    /**
+     * Removes every score from the leaderboard, replacing the file atomically with an empty one.
+     */
+    public void clear() {
+        try {
+            writeAtomically(Collections.<Float>emptyList());
+            scores.clear();
+            pending.clear();
+        } catch (IOException e) {
+            Gdx.app.error("Leaderboard", "Error clearing leaderboard: " + file, e);
+        }
+    }
+
+    /**
+     * Finishes or rolls back a write that was interrupted by a crash.
+     */
+    private void recoverTempFile() throws IOException {
+        if (!Files.exists(tempFile)) {
+            return;
+        }
+        if (Files.exists(file)) {
+            // The rename never happened, so the real file still holds the last complete write
+            Files.delete(tempFile);
+        } else {
+            // The real file was lost, so the fully flushed temporary file is the best copy we have
+            move(tempFile, file);
+        }
+    }
+
+    /**
+     * Writes the given scores to the temporary file, forces them to disk and renames the
+     * temporary file over the real one.
+     *
+     * @param records The scores to write
+     */
+    private void writeAtomically(List<Float> records) throws IOException {
+        StringBuilder builder = new StringBuilder(records.size() * 24);
+        for (Float score : records) {
+            builder.append(formatRecord(score)).append('\n');
+        }
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(builder.toString());
+
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        move(tempFile, file);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Formats a score as a checksummed record.
+     *
+     * @param score The score to format
+     * @return The record text, without a line break
+     */
+    static String formatRecord(float score) {
+        String value = Float.toString(score);
+        return value + SEPARATOR + Long.toHexString(checksum(value));
+    }
+
+    /**
+     * Parses a single record, verifying its checksum.
+     *
+     * @param line The line read from the file
+     * @return The score, or null if the record is corrupt
+     */
+    static Float parseRecord(String line) {
+        String record = line.trim();
+        int split = record.indexOf(SEPARATOR);
+        try {
+            if (split < 0) {
+                // Plain score written by an older version of the game
+                return Float.parseFloat(record);
+            }
+            String value = record.substring(0, split);
+            long expected = Long.parseLong(record.substring(split + 1), 16);
+            if (checksum(value) != expected) {
+                return null;
+            }
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(String value) {
+        CRC32 crc = new CRC32();
+        crc.update(value.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
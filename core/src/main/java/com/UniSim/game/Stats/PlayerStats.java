@@ -6,14 +6,32 @@ import static java.lang.Math.max;
  * The PlayerStats class is responsible for managing and updating the player's statistics in the game.
  * It tracks values like satisfaction, currency, fatigue, knowledge, and building count.
  * It provides methods to get, increase, and decrease these statistics based on in-game actions.
+ *
+ * The satisfaction gained on each satisfaction update and the final score shown at the end of the game
+ * are kept as running totals. Every change to a stat adds its difference to the totals, so both can
+ * be read at any time without going over the campus again. Factors that are not stats, such as a
+ * building's bonus for where it was placed, are added with {@link #addSatisfactionBonus(float)}.
  */
 public class PlayerStats {
 
+    // The satisfaction rate is kept in tenths of a point, so its contributions add up exactly
+    private static final int RATE_PER_BUILDING = 15;
+    private static final int RATE_PER_KNOWLEDGE = 20;
+    private static final int RATE_PER_FATIGUE = -2; // A full 50 fatigue costs 10 points
+    private static final int RATE_SCALE = 10;
+
+    // What each stat adds to the final score, on top of the satisfaction itself
+    private static final double SCORE_PER_CURRENCY = 0.01;
+    private static final double SCORE_PER_KNOWLEDGE = 2;
+    private static final double SCORE_PER_FATIGUE = -1;
+
     private int buildingCounter;
     private int satisfaction;
     private float currency;
     private int fatigue;
     private int knowledge;
+    private int satisfactionRate; // What the next satisfaction update adds, in tenths of a point
+    private double score; // The final score if the game ended now
 
     /**
      * Initializes the PlayerStats object with default values.
@@ -29,6 +47,8 @@ public class PlayerStats {
         currency = 10000;
         fatigue = 0;
         knowledge = 0;
+        satisfactionRate = 0;
+        score = currency * SCORE_PER_CURRENCY;
     }
 
     //get stats
@@ -50,17 +70,49 @@ public class PlayerStats {
 
     public int getBuildingCounter(){return buildingCounter;}
 
+    /**
+     * The final score is the satisfaction, plus a point for every 100 currency and 2 for every point of
+     * knowledge left, minus a point for every point of fatigue. Each stat's part of it is given by
+     * {@link #getCurrencyScore()}, {@link #getKnowledgeScore()} and {@link #getFatigueScore()}.
+     *
+     * @return The final score if the game ended now
+     */
+    public float getFinalScore(){
+        return (float) score;
+    }
+
+    /**
+     * @return What the currency left adds to the final score
+     */
+    public float getCurrencyScore(){
+        return (float) (currency * SCORE_PER_CURRENCY);
+    }
+
+    /**
+     * @return What the knowledge gained adds to the final score
+     */
+    public float getKnowledgeScore(){
+        return (float) (knowledge * SCORE_PER_KNOWLEDGE);
+    }
+
+    /**
+     * @return What the fatigue left adds to the final score, which is never positive
+     */
+    public float getFatigueScore(){
+        return (float) (fatigue * SCORE_PER_FATIGUE);
+    }
+
     //change stats
     public void increaseSatisfaction(int amount){
-        satisfaction = satisfaction + amount;
+        setSatisfaction(satisfaction + amount);
     }
 
     public void decreaseSatisfaction(int amount){
-        satisfaction = max(satisfaction - amount, 0);
+        setSatisfaction(max(satisfaction - amount, 0));
     }
 
     public void increaseCurrency(int amount){
-        currency = currency + amount;
+        setCurrency(currency + amount);
     }
 
     /**
@@ -75,7 +127,7 @@ public class PlayerStats {
         {
             return false;
         }else {
-            currency -= amount;
+            setCurrency(currency - amount);
             return true;
         }
     }
@@ -92,7 +144,7 @@ public class PlayerStats {
         {
             return false;
         }else {
-            fatigue += amount;
+            setFatigue(fatigue + amount);
             return true;
         }
     }
@@ -104,30 +156,41 @@ public class PlayerStats {
      * @param amount The amount to decrease fatigue by
      */
     public void decreaseFatigue(int amount){
-        fatigue = max(fatigue - amount, 0);
+        setFatigue(max(fatigue - amount, 0));
     }
 
     //assume knowledge doesn't decrease
     public void increaseKnowledge(int amount){
-        knowledge = knowledge + amount;
+        setKnowledge(knowledge + amount);
     }
 
     public void incrementBuildingCounter(){
         buildingCounter++;
+        satisfactionRate += RATE_PER_BUILDING;
+    }
+
+    /**
+     * Adds a lasting bonus to the satisfaction gained on every satisfaction update, such as a
+     * building's bonus for where it was placed. Negative bonuses are penalties.
+     *
+     * @param bonus The satisfaction added to every update, to the nearest tenth
+     */
+    public void addSatisfactionBonus(float bonus){
+        satisfactionRate += Math.round(bonus * RATE_SCALE);
     }
 
     /**
-     * Calculates the player's current satisfaction based on several factors:
+     * Returns the satisfaction gained on the next satisfaction update, based on several factors:
      * - Building count: Each building adds 1.5 satisfaction points
      * - Knowledge: Each point of knowledge adds 2 satisfaction points
      * - Fatigue: Fatigue causes a penalty to satisfaction, calculated as a fraction of the fatigue level
+     * - Bonuses: Anything added with {@link #addSatisfactionBonus(float)}
+     * The total is kept up to date as the stats change, so this does no work.
      *
-     * @return The calculated satisfaction level
+     * @return The satisfaction gained, rounded towards zero
      */
     public int calculateSatisfaction(){
-        double fatiguePenalty = (fatigue / 50.0) * 10;
-        double increase = (buildingCounter * 1.5) + (knowledge * 2) - (fatiguePenalty);
-        return (int) increase;
+        return satisfactionRate / RATE_SCALE;
     }
 
     /**
@@ -136,7 +199,31 @@ public class PlayerStats {
      * @param currency The cost to subtract from the player's current currency
      */
     public void takeOffBuildingCost(float currency){
-        this.currency -= currency;
+        setCurrency(this.currency - currency);
+    }
+
+    // Every stat the running totals depend on is changed through these, which add the difference to them
+
+    private void setSatisfaction(int value){
+        score += value - satisfaction;
+        satisfaction = value;
+    }
+
+    private void setCurrency(float value){
+        score += (value - currency) * SCORE_PER_CURRENCY;
+        currency = value;
+    }
+
+    private void setFatigue(int value){
+        satisfactionRate += (value - fatigue) * RATE_PER_FATIGUE;
+        score += (value - fatigue) * SCORE_PER_FATIGUE;
+        fatigue = value;
+    }
+
+    private void setKnowledge(int value){
+        satisfactionRate += (value - knowledge) * RATE_PER_KNOWLEDGE;
+        score += (value - knowledge) * SCORE_PER_KNOWLEDGE;
+        knowledge = value;
     }
 
 
@@ -0,0 +1,111 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Buildings.Occupancy;
+import com.UniSim.game.Pathfinding.FlowField;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Destinations keeps every placed building students can walk to, numbered in the order they were
+ * added. For each one it holds its type, the flow field leading to it, its occupancy and its door,
+ * where students living there move in. Buildings are also listed by type, so choosing one of a
+ * type allocates nothing.
+ */
+public class Destinations {
+
+    public static final String[] TYPES = {"Accommodation", "Academic", "Food", "Workplace", "Recreational"};
+    public static final int ACCOMMODATION = 0;
+    public static final int ACADEMIC = 1;
+    public static final int FOOD = 2;
+    public static final int WORKPLACE = 3;
+    public static final int RECREATIONAL = 4;
+
+    private final IntArray types;
+    private final FloatArray doors;
+    private final Array<FlowField> fields;
+    private final Array<Occupancy> occupancies;
+    private final IntArray[] byType;
+    private final RandomXS128 random;
+
+    /**
+     * @param random The simulation's random numbers, used to pick buildings of a type
+     */
+    public Destinations(RandomXS128 random) {
+        this.random = random;
+        types = new IntArray();
+        doors = new FloatArray();
+        fields = new Array<>();
+        occupancies = new Array<>();
+        byType = new IntArray[TYPES.length];
+        for (int i = 0; i < byType.length; i++) {
+            byType[i] = new IntArray();
+        }
+    }
+
+    /**
+     * @param type The building type, as returned by {@link com.UniSim.game.Buildings.Building#getType()}
+     * @return The index of the type, or -1 if students do not visit that type of building
+     */
+    public static int typeIndex(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a building.
+     *
+     * @param field The flow field leading to the building
+     * @param occupancy Who is inside the building
+     * @return The building's number
+     */
+    public int add(int type, float doorX, float doorY, FlowField field, Occupancy occupancy) {
+        int building = types.size;
+        types.add(type);
+        doors.add(doorX, doorY);
+        fields.add(field);
+        occupancies.add(occupancy);
+        byType[type].add(building);
+        return building;
+    }
+
+    /**
+     * @return The number of buildings of a type
+     */
+    public int getCount(int type) {
+        return byType[type].size;
+    }
+
+    /**
+     * @return The number of a random building of the given type, or -1 if none have been placed
+     */
+    public int random(int type) {
+        IntArray buildings = byType[type];
+        return buildings.size == 0 ? -1 : buildings.get(random.nextInt(buildings.size));
+    }
+
+    public int getType(int building) {
+        return types.get(building);
+    }
+
+    public FlowField getField(int building) {
+        return fields.get(building);
+    }
+
+    public Occupancy getOccupancy(int building) {
+        return occupancies.get(building);
+    }
+
+    public float getDoorX(int building) {
+        return doors.get(building * 2);
+    }
+
+    public float getDoorY(int building) {
+        return doors.get(building * 2 + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Pathfinding.PathfindingService;
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * MovementSystem walks every walking student along their flow field, leaving those who arrive or
+ * are cut off to the {@link VisitSystem}. Fields made out of date by a newly placed building are
+ * rebuilt first. Students do not collide with each other or the map, they only follow paths around
+ * it, so they are moved directly in the {@link StudentStore} rather than through Box2D.
+ */
+public class MovementSystem extends EntitySystem {
+
+    private final StudentStore store;
+    private final PathfindingService pathfinding;
+
+    public MovementSystem(StudentStore store, PathfindingService pathfinding, int priority) {
+        super(priority);
+        this.store = store;
+        this.pathfinding = pathfinding;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        pathfinding.updateFlowFields();
+        store.step(deltaTime);
+    }
+}
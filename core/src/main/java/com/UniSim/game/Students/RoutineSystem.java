@@ -0,0 +1,78 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Buildings.VisitScheduler;
+import com.UniSim.game.Pathfinding.FlowField;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * RoutineSystem sends students on to the next step of their daily routine once they are done
+ * where they are, choosing a building of the type the routine asks for. Steps whose type of
+ * building has not been placed yet, or cannot be reached, are skipped. Students then follow the
+ * building's shared flow field, so no path is searched for per student.
+ */
+public class RoutineSystem extends EntitySystem {
+
+    // The types of building a student visits over a day, in order
+    public static final int[] ROUTINE = {
+        Destinations.ACADEMIC, Destinations.FOOD, Destinations.ACADEMIC,
+        Destinations.WORKPLACE, Destinations.RECREATIONAL, Destinations.ACCOMMODATION
+    };
+    // Seconds to wait before trying again when no building on the routine can be reached
+    private static final float RETRY_TIME = 5;
+    // Range of seconds a student spends inside a building
+    private static final float MIN_DWELL_TIME = 5;
+    private static final float MAX_DWELL_TIME = 20;
+
+    private final StudentStore store;
+    private final Destinations destinations;
+    private final VisitScheduler scheduler;
+    private final RandomXS128 random;
+    // Students to send somewhere this frame
+    private final IntArray pending;
+
+    public RoutineSystem(StudentStore store, Destinations destinations, VisitScheduler scheduler, RandomXS128 random,
+                         int priority) {
+        super(priority);
+        this.store = store;
+        this.destinations = destinations;
+        this.scheduler = scheduler;
+        this.random = random;
+        this.pending = new IntArray();
+    }
+
+    /**
+     * Queues a student to be sent to their next building on the next update.
+     */
+    public void send(int student) {
+        pending.add(student);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int k = 0; k < pending.size; k++) {
+            dispatch(pending.get(k));
+        }
+        pending.clear();
+    }
+
+    private void dispatch(int i) {
+        int[] routine = store.routine;
+        for (int step = 0; step < ROUTINE.length; step++) {
+            routine[i] = (routine[i] + 1) % ROUTINE.length;
+            int type = ROUTINE[routine[i]];
+            int building = type == Destinations.ACCOMMODATION ? store.home[i] : destinations.random(type);
+            if (building < 0) {
+                continue;
+            }
+            FlowField field = destinations.getField(building);
+            if (field.getDirection(store.x[i], store.y[i]) != FlowField.NONE) {
+                store.walk(i, field, building, MIN_DWELL_TIME + random.nextFloat() * (MAX_DWELL_TIME - MIN_DWELL_TIME));
+                return;
+            }
+        }
+        store.state[i] = StudentStore.IDLE;
+        scheduler.schedule(i, RETRY_TIME * (0.5f + random.nextFloat()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.UniSim.game.Students;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Marks an entity as a student. The student's data lives in the {@link StudentStore}; the component
+ * only holds the student's index into it.
+ */
+public class StudentComponent implements Component, Pool.Poolable {
+
+    public int index = -1;
+
+    @Override
+    public void reset() {
+        index = -1;
+    }
+}
@@ -0,0 +1,40 @@
+package com.UniSim.game.Students;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * StudentRenderSystem draws the students walking around the campus from the {@link StudentStore}.
+ * It is not updated with the other systems; the game screen draws it at the right point of its
+ * frame instead.
+ */
+public class StudentRenderSystem extends EntitySystem {
+
+    private final StudentStore store;
+    private final float width;
+    private final float height;
+
+    /**
+     * @param width The width students are drawn at, in world units
+     * @param height The height students are drawn at, in world units
+     */
+    public StudentRenderSystem(StudentStore store, float width, float height) {
+        this.store = store;
+        this.width = width;
+        this.height = height;
+        setProcessing(false);
+    }
+
+    /**
+     * Draws the students. Must be called between {@code batch.begin()} and {@code batch.end()}.
+     *
+     * @param batch The batch to draw with, already set to the camera's projection
+     * @param camera The camera, used to skip students off screen
+     * @param region The image students are drawn with
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera, TextureRegion region) {
+        store.render(batch, camera, region, width, height);
+    }
+}
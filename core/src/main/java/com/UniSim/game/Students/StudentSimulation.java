@@ -0,0 +1,161 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Buildings.BuildingManager;
+import com.UniSim.game.Buildings.Occupancy;
+import com.UniSim.game.Buildings.Placed;
+import com.UniSim.game.Buildings.VisitScheduler;
+import com.UniSim.game.Pathfinding.PathfindingService;
+import com.UniSim.game.Replay.StateHash;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * StudentSimulation runs the students living on campus as entities of an Ashley engine. Each
+ * accommodation placed moves a group of students in, who then walk between the academic, food,
+ * work and recreational buildings on their routine. The students' data is kept in a
+ * {@link StudentStore} of primitive arrays, which the systems update in tight loops, and buildings
+ * let them in up to their capacity, with visits ending through a {@link VisitScheduler}, so the
+ * campus can hold thousands of them. The engine is updated once every tick of the simulation clock.
+ */
+public class StudentSimulation implements BuildingManager.PlacementListener, SimulationClock.TickListener {
+
+    // Students moving in to each accommodation placed
+    public static final int STUDENTS_PER_ACCOMMODATION = 25;
+    // Most students the campus holds, however many accommodations are placed
+    public static final int MAX_STUDENTS = 2000;
+    private static final float MIN_SPEED = 2.5f;
+    private static final float MAX_SPEED = 4f;
+    // Longest a student spends in their accommodation after moving in, so they do not all leave together
+    private static final float MAX_START_DELAY = 10;
+
+    private final PooledEngine engine;
+    private final PathfindingService pathfinding;
+    private final StudentStore store;
+    private final Destinations destinations;
+    private final VisitScheduler scheduler;
+    private final StudentRenderSystem renderSystem;
+    private final RandomXS128 random;
+    private final Color tint = new Color();
+
+    /**
+     * @param pathfinding Provides the flow fields students follow. It must be told about placed buildings before
+     *                    this simulation is, so new buildings are already on the grid
+     * @param clock The simulation clock the students are updated by
+     * @param studentWidth The width students are drawn at, in world units
+     * @param studentHeight The height students are drawn at, in world units
+     */
+    public StudentSimulation(PathfindingService pathfinding, SimulationClock clock, float studentWidth, float studentHeight) {
+        this.engine = new PooledEngine();
+        this.pathfinding = pathfinding;
+        this.random = clock.getRandom();
+        this.store = new StudentStore(STUDENTS_PER_ACCOMMODATION);
+        this.destinations = new Destinations(random);
+        this.scheduler = new VisitScheduler(clock);
+        RoutineSystem routine = new RoutineSystem(store, destinations, scheduler, random, 2);
+        engine.addSystem(new MovementSystem(store, pathfinding, 0));
+        engine.addSystem(new VisitSystem(store, destinations, scheduler, routine, 1));
+        engine.addSystem(routine);
+        this.renderSystem = new StudentRenderSystem(store, studentWidth, studentHeight);
+        engine.addSystem(renderSystem);
+        clock.addTickListener(this);
+    }
+
+    @Override
+    public void buildingPlaced(Placed building) {
+        int type = Destinations.typeIndex(building.getBuildingType());
+        if (type < 0) {
+            return;
+        }
+        Rectangle bounds = building.getBounds();
+        int destination = addDestination(type, bounds, building.getOccupancy());
+        if (type == Destinations.ACCOMMODATION) {
+            int count = Math.min(STUDENTS_PER_ACCOMMODATION, MAX_STUDENTS - getStudentCount());
+            for (int i = 0; i < count; i++) {
+                spawn(destination);
+            }
+        }
+    }
+
+    /**
+     * Adds a building students can walk to, along with the flow field leading to it. Its door,
+     * where students living there move in, is just below the middle of its bottom edge.
+     *
+     * @param type The building type, one of the {@link Destinations} type indices
+     * @param bounds The area covered by the building, in world units
+     * @param occupancy Who is inside the building
+     * @return The building's number
+     */
+    public int addDestination(int type, Rectangle bounds, Occupancy occupancy) {
+        return destinations.add(type, bounds.x + bounds.width / 2, bounds.y - 0.5f,
+            pathfinding.getFlowField(bounds), occupancy);
+    }
+
+    /**
+     * Moves a student in to an accommodation. They go in, or queue if it is full, on the next
+     * update and leave after a short delay.
+     *
+     * @param home The accommodation's building number
+     * @return The student's entity
+     */
+    public Entity spawn(int home) {
+        Entity entity = engine.createEntity();
+        StudentComponent student = engine.createComponent(StudentComponent.class);
+        student.index = store.add(destinations.getDoorX(home), destinations.getDoorY(home), home,
+            random.nextInt(RoutineSystem.ROUTINE.length), random.nextFloat() * MAX_START_DELAY,
+            MIN_SPEED + random.nextFloat() * (MAX_SPEED - MIN_SPEED),
+            tint.set(randomShade(), randomShade(), randomShade(), 1).toFloatBits());
+        entity.add(student);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    private float randomShade() {
+        return 0.6f + random.nextFloat() * 0.4f;
+    }
+
+    @Override
+    public void tick(float delta) {
+        engine.update(delta);
+    }
+
+    /**
+     * Draws the students walking around. Must be called between {@code batch.begin()} and {@code batch.end()}.
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera, TextureRegion region) {
+        renderSystem.render(batch, camera, region);
+    }
+
+    /**
+     * Adds where every student is and what they are doing to a hash of the simulation's state.
+     */
+    public void hash(StateHash hash) {
+        hash.add(store.getCount());
+        for (int i = 0; i < store.getCount(); i++) {
+            hash.add(store.x[i]).add(store.y[i]).add(store.state[i]).add(store.target[i]);
+        }
+    }
+
+    public int getStudentCount() {
+        return store.getCount();
+    }
+
+    public StudentStore getStore() {
+        return store;
+    }
+
+    public Destinations getDestinations() {
+        return destinations;
+    }
+
+    public PooledEngine getEngine() {
+        return engine;
+    }
+}
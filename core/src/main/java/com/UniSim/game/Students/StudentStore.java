@@ -0,0 +1,270 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Pathfinding.FlowField;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StudentStore holds every student's data in parallel primitive arrays, one entry per student,
+ * instead of one object per student. Updating thousands of students is then a few tight loops over
+ * contiguous memory, and the walking step is split across cores with fork-join. Only walking
+ * students are stepped; students arriving somewhere are recorded as events for the
+ * {@link VisitSystem}, and those inside wait on its scheduler rather than counting down.
+ *
+ * Students are only ever added. Arrays are exposed to the systems of this package directly.
+ */
+public class StudentStore {
+
+    public static final int INSIDE = 0;   // Spending time in a building, hidden
+    public static final int WALKING = 1;  // Walking to a building
+    public static final int WAITING = 2;  // Queueing at the door of a full building
+    public static final int IDLE = 3;     // Nowhere to go, trying again later
+    public static final int ARRIVED = 4;  // Just reached their building, about to go in or queue
+    public static final int READY = 5;    // Cut off from their building, about to be sent somewhere else
+
+    // Fewest students worth handing to another thread, well below StudentSimulation.MAX_STUDENTS
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    float[] x;
+    float[] y;
+    float[] vx;
+    float[] vy;
+    float[] speed;
+    // Seconds the student will spend inside their target building once they are let in
+    float[] dwell;
+    // Tint the student is drawn with, packed by Color.toFloatBits
+    float[] tint;
+    int[] state;
+    // The step of RoutineSystem.ROUTINE the student is on
+    int[] routine;
+    // The building the student is heading to, queueing at or inside, by its number in Destinations
+    short[] target;
+    short[] home;
+    // The flow field leading to the target building
+    FlowField[] field;
+    // Students who arrived or were cut off during the last step, each listed once
+    int[] events;
+    private final AtomicInteger eventCount = new AtomicInteger();
+    private int count;
+
+    public StudentStore(int capacity) {
+        capacity = Math.max(capacity, 16);
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        speed = new float[capacity];
+        dwell = new float[capacity];
+        tint = new float[capacity];
+        state = new int[capacity];
+        routine = new int[capacity];
+        target = new short[capacity];
+        home = new short[capacity];
+        field = new FlowField[capacity];
+        events = new int[capacity];
+    }
+
+    /**
+     * Adds a student at the door of their home, about to go in.
+     *
+     * @param dwell The seconds they spend at home before setting off
+     * @return The student's index
+     */
+    public int add(float x, float y, int home, int routine, float dwell, float speed, float tint) {
+        if (count == this.x.length) {
+            grow(count * 2);
+        }
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.vx[i] = 0;
+        this.vy[i] = 0;
+        this.speed[i] = speed;
+        this.dwell[i] = dwell;
+        this.tint[i] = tint;
+        this.state[i] = ARRIVED;
+        this.routine[i] = routine;
+        this.target[i] = (short) home;
+        this.home[i] = (short) home;
+        this.field[i] = null;
+        addEvent(i);
+        return i;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        dwell = Arrays.copyOf(dwell, capacity);
+        tint = Arrays.copyOf(tint, capacity);
+        state = Arrays.copyOf(state, capacity);
+        routine = Arrays.copyOf(routine, capacity);
+        target = Arrays.copyOf(target, capacity);
+        home = Arrays.copyOf(home, capacity);
+        field = Arrays.copyOf(field, capacity);
+        events = Arrays.copyOf(events, capacity);
+    }
+
+    private void addEvent(int i) {
+        events[eventCount.getAndIncrement()] = i;
+    }
+
+    int getEventCount() {
+        return eventCount.get();
+    }
+
+    void clearEvents() {
+        eventCount.set(0);
+    }
+
+    /**
+     * Starts a student walking to a building.
+     *
+     * @param route The flow field leading to the building
+     * @param building The building's number
+     * @param dwell The seconds they will spend inside once they are let in
+     */
+    void walk(int i, FlowField route, int building, float dwell) {
+        field[i] = route;
+        target[i] = (short) building;
+        this.dwell[i] = dwell;
+        state[i] = WALKING;
+    }
+
+    /**
+     * Moves every walking student along their flow field, splitting the students into one chunk per
+     * core on the common fork-join pool when there are enough of them. The fields must be up to date
+     * beforehand, since they are read from several threads.
+     */
+    public void step(float delta) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (cores < 2 || count < MIN_CHUNK_SIZE * 2) {
+            step(0, count, delta);
+        } else {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, (count + cores - 1) / cores);
+            ForkJoinPool.commonPool().invoke(new StepTask(this, 0, count, chunkSize, delta));
+            // The threads append their events in any order, so sort them to keep the simulation repeatable
+            Arrays.sort(events, 0, eventCount.get());
+        }
+    }
+
+    /**
+     * Steps the students in a range. Each student only touches its own entries, and the event list
+     * is appended to atomically, so ranges can be stepped on different threads at once.
+     */
+    private void step(int start, int end, float delta) {
+        for (int i = start; i < end; i++) {
+            if (state[i] == WALKING) {
+                steer(i);
+                x[i] += vx[i] * delta;
+                y[i] += vy[i] * delta;
+            }
+        }
+    }
+
+    /**
+     * Points a student at the centre of the next cell their flow field leads to, stopping them once
+     * they reach the building. If a newly placed building has cut them off, they stop to be sent
+     * somewhere else.
+     */
+    private void steer(int i) {
+        int direction = field[i].getDirection(x[i], y[i]);
+        if (direction == FlowField.GOAL || direction == FlowField.NONE) {
+            field[i] = null;
+            vx[i] = 0;
+            vy[i] = 0;
+            state[i] = direction == FlowField.GOAL ? ARRIVED : READY;
+            addEvent(i);
+            return;
+        }
+        float dx = field[i].getStepX(x[i], direction) - x[i];
+        float dy = field[i].getStepY(y[i], direction) - y[i];
+        float scale = speed[i] / (float) Math.sqrt(dx * dx + dy * dy);
+        vx[i] = dx * scale;
+        vy[i] = dy * scale;
+    }
+
+    /**
+     * Draws every student on screen who is not inside a building, in one pass. Must be called between
+     * {@code batch.begin()} and {@code batch.end()}.
+     *
+     * @param batch The batch to draw with, already set to the camera's projection
+     * @param camera The camera, used to skip students off screen
+     * @param region The image every student is drawn with, so the whole pass is a single draw call
+     * @param width The width students are drawn at, in world units
+     * @param height The height students are drawn at, in world units
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera, TextureRegion region, float width, float height) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2 + width;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2 + height;
+        float left = camera.position.x - halfWidth;
+        float right = camera.position.x + halfWidth;
+        float bottom = camera.position.y - halfHeight;
+        float top = camera.position.y + halfHeight;
+
+        float color = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            if (state[i] == INSIDE || x[i] < left || x[i] > right || y[i] < bottom || y[i] > top) {
+                continue;
+            }
+            batch.setPackedColor(tint[i]);
+            batch.draw(region, x[i] - width / 2, y[i] - height / 2, width, height);
+        }
+        batch.setPackedColor(color);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public int getState(int i) {
+        return state[i];
+    }
+
+    /**
+     * Splits a range of students in half until it is no bigger than a chunk, then steps it on one thread.
+     */
+    private static class StepTask extends RecursiveAction {
+
+        private final StudentStore store;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final float delta;
+
+        StepTask(StudentStore store, int start, int end, int chunkSize, float delta) {
+            this.store = store;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.delta = delta;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                store.step(start, end, delta);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new StepTask(store, start, middle, chunkSize, delta),
+                new StepTask(store, middle, end, chunkSize, delta));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.UniSim.game.Students;
+
+import com.UniSim.game.Buildings.Occupancy;
+import com.UniSim.game.Buildings.VisitScheduler;
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * VisitSystem lets students into the buildings they arrive at, or queues them at the door when the
+ * building is full, and lets them out again when their visit is over. Visits end through the
+ * {@link VisitScheduler}, so each tick only touches the students who arrived and the visits that
+ * finished, however many are under way.
+ */
+public class VisitSystem extends EntitySystem {
+
+    private final StudentStore store;
+    private final Destinations destinations;
+    private final VisitScheduler scheduler;
+    private final RoutineSystem routine;
+
+    public VisitSystem(StudentStore store, Destinations destinations, VisitScheduler scheduler,
+                       RoutineSystem routine, int priority) {
+        super(priority);
+        this.store = store;
+        this.destinations = destinations;
+        this.scheduler = scheduler;
+        this.routine = routine;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        int[] events = store.events;
+        for (int k = 0; k < store.getEventCount(); k++) {
+            int i = events[k];
+            if (store.state[i] == StudentStore.ARRIVED) {
+                arrive(i);
+            } else if (store.state[i] == StudentStore.READY) {
+                routine.send(i);
+            }
+        }
+        store.clearEvents();
+
+        while (scheduler.hasDue()) {
+            int i = scheduler.poll();
+            if (store.state[i] == StudentStore.INSIDE) {
+                int next = destinations.getOccupancy(store.target[i]).leave();
+                if (next >= 0) {
+                    admit(next);
+                }
+            }
+            routine.send(i);
+        }
+    }
+
+    private void arrive(int i) {
+        Occupancy occupancy = destinations.getOccupancy(store.target[i]);
+        if (occupancy.enter(i)) {
+            admit(i);
+        } else {
+            store.state[i] = StudentStore.WAITING;
+        }
+    }
+
+    private void admit(int i) {
+        store.state[i] = StudentStore.INSIDE;
+        scheduler.schedule(i, store.dwell[i]);
+    }
+}
@@ -2,16 +2,24 @@ package com.UniSim.game;
 
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.UniSim.game.Screens.LandingScreen;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.function.Supplier;
 
 public class UniSim extends Game {
     public SpriteBatch batch;
 
+    // Menu screens are created once and reused, so navigating between them is instant
+    private final ObjectMap<String, Screen> screenCache = new ObjectMap<>();
+
     @Override
     public void create() {
         batch = new SpriteBatch();
-        setScreen(new LandingScreen(this));
+        showLandingScreen();
     }
 
     @Override
@@ -19,9 +27,59 @@ public class UniSim extends Game {
         super.render();
     }
 
+    /**
+     * Shows the landing screen, creating it the first time it is needed.
+     */
+    public void showLandingScreen() {
+        showScreen("landing", () -> new LandingScreen(this));
+    }
+
+    /**
+     * Shows the cached screen stored under the given key, creating it with the factory if
+     * it has not been created yet.
+     *
+     * @param key The name the screen is cached under
+     * @param factory Creates the screen the first time it is requested
+     */
+    public void showScreen(String key, Supplier<? extends Screen> factory) {
+        Screen screen = screenCache.get(key);
+        if (screen == null) {
+            screen = factory.get();
+            screenCache.put(key, screen);
+        }
+        setScreen(screen);
+    }
+
+    /**
+     * Removes a screen from the cache and disposes it.
+     *
+     * @param key The name the screen is cached under
+     */
+    public void evictScreen(String key) {
+        Screen screen = screenCache.remove(key);
+        if (screen != null && screen != getScreen()) {
+            screen.dispose();
+        }
+    }
+
+    /**
+     * Draws the shared menu background over the whole window.
+     */
+    public void drawMenuBackground() {
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.begin();
+        batch.draw(GameAssets.texture(GameAssets.MENU_BACKGROUND), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.end();
+    }
+
     @Override
     public void dispose() {
+        for (Screen screen : screenCache.values()) {
+            screen.dispose();
+        }
+        screenCache.clear();
         batch.dispose();
+        GameAssets.dispose();
     }
 
 }
@@ -0,0 +1,148 @@
+package com.UniSim.game.Map;
+
+import com.UniSim.game.GameAssets;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.XmlReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that merging the campus map's collision rectangles blocks exactly what the rectangles drawn
+ * in Tiled block. The map is read straight from its tmx file, so no graphics are needed.
+ */
+public class HitboxMergerTest {
+
+    private static XmlReader.Element map;
+    private static Array<Rectangle> collision;
+    private static Array<Rectangle> merged;
+
+    @BeforeClass
+    public static void mergeCollisionLayers() {
+        // Tests run from the assets folder
+        map = new XmlReader().parse(new FileHandle(GameAssets.MAP));
+        collision = new Array<>();
+        for (String name : MapSchema.COLLISION_LAYERS) {
+            collision.addAll(readLayer(name));
+        }
+        merged = HitboxMerger.merge(collision);
+    }
+
+    @Test
+    public void mergingUsesNoMoreRectangles() {
+        assertTrue(merged.size <= collision.size);
+    }
+
+    @Test
+    public void mergedRectanglesBlockTheSameArea() {
+        // Every cell between the edges of both sets is either entirely blocked or entirely free, so
+        // comparing the cells' centres compares the whole area
+        Array<Rectangle> all = new Array<>(collision);
+        all.addAll(merged);
+        float[] xs = edges(all, true);
+        float[] ys = edges(all, false);
+        for (int column = 0; column < xs.length - 1; column++) {
+            for (int row = 0; row < ys.length - 1; row++) {
+                float x = (xs[column] + xs[column + 1]) / 2;
+                float y = (ys[row] + ys[row + 1]) / 2;
+                assertEquals("Cell at " + x + ", " + y, contains(collision, x, y), contains(merged, x, y));
+            }
+        }
+    }
+
+    @Test
+    public void everyLayerKeepsItsBlockedAndFreeCells() {
+        for (String name : MapSchema.COLLISION_LAYERS) {
+            Array<Rectangle> layer = readLayer(name);
+            assertFalse("Layer " + name + " is empty", layer.isEmpty());
+
+            Rectangle first = layer.first();
+            float centreX = first.x + first.width / 2;
+            float centreY = first.y + first.height / 2;
+            assertTrue("Blocked cell of " + name, contains(merged, centreX, centreY));
+
+            float[] free = findFreePoint(layer);
+            assertNotNull("No free cell next to " + name, free);
+            assertFalse("Free cell of " + name, contains(merged, free[0], free[1]));
+        }
+    }
+
+    /**
+     * Reads an object layer's rectangles, in map pixels counting up from the bottom as the tmx loader does.
+     */
+    private static Array<Rectangle> readLayer(String name) {
+        float mapHeight = map.getIntAttribute("height") * map.getIntAttribute("tileheight");
+        for (XmlReader.Element group : map.getChildrenByName("objectgroup")) {
+            if (!name.equals(group.getAttribute("name"))) {
+                continue;
+            }
+            Array<Rectangle> rectangles = new Array<>();
+            for (XmlReader.Element object : group.getChildrenByName("object")) {
+                float width = object.getFloatAttribute("width");
+                float height = object.getFloatAttribute("height");
+                float y = mapHeight - object.getFloatAttribute("y") - height;
+                rectangles.add(new Rectangle(object.getFloatAttribute("x"), y, width, height));
+            }
+            return rectangles;
+        }
+        throw new AssertionError("Map has no object layer named " + name);
+    }
+
+    /**
+     * Looks for a point on the map half a pixel outside one of the layer's rectangles that no collision
+     * rectangle covers.
+     */
+    private static float[] findFreePoint(Array<Rectangle> layer) {
+        Rectangle bounds = new Rectangle(0, 0, map.getIntAttribute("width") * map.getIntAttribute("tilewidth"),
+            map.getIntAttribute("height") * map.getIntAttribute("tileheight"));
+        for (Rectangle rect : layer) {
+            float centreX = rect.x + rect.width / 2;
+            float centreY = rect.y + rect.height / 2;
+            float[][] candidates = {
+                {rect.x - 0.5f, centreY},
+                {rect.x + rect.width + 0.5f, centreY},
+                {centreX, rect.y - 0.5f},
+                {centreX, rect.y + rect.height + 0.5f}
+            };
+            for (float[] candidate : candidates) {
+                if (bounds.contains(candidate[0], candidate[1]) && !contains(collision, candidate[0], candidate[1])) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(Array<Rectangle> rectangles, float x, float y) {
+        for (int i = 0; i < rectangles.size; i++) {
+            if (rectangles.get(i).contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static float[] edges(Array<Rectangle> rectangles, boolean horizontal) {
+        FloatArray edges = new FloatArray();
+        for (int i = 0; i < rectangles.size; i++) {
+            Rectangle rect = rectangles.get(i);
+            edges.add(horizontal ? rect.x : rect.y);
+            edges.add(horizontal ? rect.x + rect.width : rect.y + rect.height);
+        }
+        edges.sort();
+        FloatArray distinct = new FloatArray();
+        for (int i = 0; i < edges.size; i++) {
+            if (distinct.isEmpty() || distinct.peek() != edges.get(i)) {
+                distinct.add(edges.get(i));
+            }
+        }
+        return distinct.toArray();
+    }
+}
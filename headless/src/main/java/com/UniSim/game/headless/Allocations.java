@@ -0,0 +1,23 @@
+package com.UniSim.game.headless;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocations reads how many bytes the current thread has allocated since it started, from the
+ * JVM's own count. Work done on other threads, such as the students' parallel step, is not counted.
+ */
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    /**
+     * @return The bytes allocated by the current thread so far; only differences between calls mean anything
+     */
+    public static long current() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
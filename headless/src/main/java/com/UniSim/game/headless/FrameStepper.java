@@ -0,0 +1,114 @@
+package com.UniSim.game.headless;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
+
+/**
+ * FrameStepper renders whichever screen a game is showing, one frame at a time with a fixed frame
+ * time, timing each frame and counting what it allocates. When a frame switches screens, the next
+ * frame renders the new one, as the game itself would. Must be used from a {@link HeadlessGame} task.
+ */
+public class FrameStepper {
+
+    // The frame time of a 60Hz display
+    public static final float FRAME_TIME = 1 / 60f;
+
+    private final Game game;
+    private final float delta;
+    private final LatencyHistogram frameTimes;
+    private long allocatedBytes;
+    private long maxAllocatedBytes; // The most allocated by a single frame
+
+    /**
+     * @param game The game whose screen to render
+     */
+    public FrameStepper(Game game) {
+        this(game, FRAME_TIME);
+    }
+
+    /**
+     * @param game The game whose screen to render
+     * @param delta The time each frame is rendered with, in seconds
+     */
+    public FrameStepper(Game game, float delta) {
+        this.game = game;
+        this.delta = delta;
+        this.frameTimes = new LatencyHistogram(1024);
+    }
+
+    /**
+     * Renders one frame of the current screen.
+     *
+     * @throws IllegalStateException If the game is not showing a screen
+     */
+    public void step() {
+        Screen screen = game.getScreen();
+        if (screen == null) {
+            throw new IllegalStateException("The game is not showing a screen");
+        }
+        long allocatedBefore = Allocations.current();
+        long start = System.nanoTime();
+        screen.render(delta);
+        frameTimes.record(System.nanoTime() - start);
+        long allocated = Allocations.current() - allocatedBefore;
+        allocatedBytes += allocated;
+        maxAllocatedBytes = Math.max(maxAllocatedBytes, allocated);
+    }
+
+    /**
+     * Renders a number of frames, one after another.
+     */
+    public void step(int frames) {
+        for (int i = 0; i < frames; i++) {
+            step();
+        }
+    }
+
+    /**
+     * Renders frames until the given number of seconds have passed at the stepper's frame time.
+     */
+    public void run(float seconds) {
+        step(Math.round(seconds / delta));
+    }
+
+    /**
+     * Forgets every frame measured so far, so warm-up frames can be left out of the results.
+     */
+    public void reset() {
+        frameTimes.clear();
+        allocatedBytes = 0;
+        maxAllocatedBytes = 0;
+    }
+
+    public int getFrames() {
+        return frameTimes.getCount();
+    }
+
+    /**
+     * @return The time each frame measured took, in microseconds
+     */
+    public LatencyHistogram getFrameTimes() {
+        return frameTimes;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public double getBytesPerFrame() {
+        return frameTimes.getCount() == 0 ? 0 : (double) allocatedBytes / frameTimes.getCount();
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
+
+    /**
+     * @return A single line with the frames measured, their mean, p99 and longest times, and allocations
+     */
+    public String summary() {
+        return String.format("%d frames, mean %.1f us, p99 %.1f us, max %.1f us, %.0f B/frame, max %d B",
+            getFrames(), frameTimes.getMean(), frameTimes.getPercentile(0.99), frameTimes.getMax(),
+            getBytesPerFrame(), maxAllocatedBytes);
+    }
+}
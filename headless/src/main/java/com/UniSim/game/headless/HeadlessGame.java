@@ -0,0 +1,87 @@
+package com.UniSim.game.headless;
+
+import com.UniSim.game.GameAssets;
+import com.UniSim.game.Replay.InputSource;
+import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.UniSim;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * HeadlessGame starts libGDX on the headless backend, with {@link NoOpGL} in place of OpenGL, and
+ * runs a task on its thread, where game objects can be created and stepped as usual. The game's
+ * assets must be in the working directory, as when the game itself is run.
+ */
+public final class HeadlessGame {
+
+    // The window size screens are created for
+    public static final int WIDTH = 1280;
+    public static final int HEIGHT = 720;
+
+    private HeadlessGame() {
+    }
+
+    /**
+     * Starts the headless backend, runs the task and shuts the backend down again.
+     *
+     * @param task The task to run on the libGDX thread
+     * @throws RuntimeException If the task threw, wrapping what it threw
+     */
+    public static void run(Runnable task) {
+        CountDownLatch done = new CountDownLatch(1);
+        Throwable[] failure = new Throwable[1];
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // Only the task runs, never a render loop
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Gdx.gl = Gdx.gl20 = NoOpGL.create();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    failure[0] = t;
+                } finally {
+                    done.countDown();
+                    Gdx.app.exit();
+                }
+            }
+        }, configuration);
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for the headless game", e);
+        }
+        if (failure[0] != null) {
+            throw new RuntimeException("Headless game failed", failure[0]);
+        }
+    }
+
+    /**
+     * Creates a game with the shared sprite batch every screen draws with. Must be called from a task.
+     */
+    public static UniSim createGame() {
+        UniSim game = new UniSim();
+        game.batch = new SpriteBatch();
+        return game;
+    }
+
+    /**
+     * Creates a game screen driven by the given input, with the music muted. Must be called from a task.
+     */
+    public static GameScreen createGameScreen(UniSim game, InputSource input) {
+        Music music = GameAssets.music(GameAssets.GAME_MUSIC);
+        music.setVolume(0);
+        GameScreen screen = new GameScreen(game, music, input);
+        screen.resize(WIDTH, HEIGHT);
+        return screen;
+    }
+}
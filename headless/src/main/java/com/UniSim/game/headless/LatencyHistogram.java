@@ -0,0 +1,109 @@
+package com.UniSim.game.headless;
+
+import java.util.Arrays;
+
+/**
+ * LatencyHistogram collects timings, keeping every sample so percentiles are exact, and prints them
+ * grouped into power-of-two buckets of microseconds.
+ */
+public class LatencyHistogram {
+
+    private static final int BAR_WIDTH = 40;
+
+    private long[] samples;
+    private int size;
+    private boolean sorted;
+
+    public LatencyHistogram(int capacity) {
+        samples = new long[Math.max(capacity, 16)];
+    }
+
+    /**
+     * @param nanos The time taken, in nanoseconds
+     */
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        sorted = false;
+    }
+
+    /**
+     * Forgets every sample recorded so far.
+     */
+    public void clear() {
+        size = 0;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return size;
+    }
+
+    /**
+     * @param fraction The fraction of samples at or below the returned one, between 0 and 1
+     * @return The sample at that percentile, in microseconds
+     */
+    public double getPercentile(double fraction) {
+        if (size == 0) {
+            return 0;
+        }
+        sort();
+        int index = (int) Math.ceil(fraction * size) - 1;
+        return samples[Math.max(0, Math.min(index, size - 1))] / 1000.0;
+    }
+
+    /**
+     * @return The mean sample, in microseconds
+     */
+    public double getMean() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += samples[i];
+        }
+        return size == 0 ? 0 : total / 1000.0 / size;
+    }
+
+    /**
+     * @return The largest sample, in microseconds
+     */
+    public double getMax() {
+        return getPercentile(1);
+    }
+
+    /**
+     * @return One line per non-empty bucket, with its count and a bar scaled to the fullest bucket
+     */
+    public String format() {
+        int[] buckets = new int[64];
+        int fullest = 0;
+        for (int i = 0; i < size; i++) {
+            int bucket = 64 - Long.numberOfLeadingZeros(samples[i] / 1000);
+            buckets[bucket]++;
+            fullest = Math.max(fullest, buckets[bucket]);
+        }
+        StringBuilder text = new StringBuilder();
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            if (buckets[bucket] == 0) {
+                continue;
+            }
+            long low = bucket == 0 ? 0 : 1L << (bucket - 1);
+            long high = 1L << bucket;
+            int bar = Math.max(1, (int) ((long) buckets[bucket] * BAR_WIDTH / fullest));
+            text.append(String.format("  %7d - %7d us %8d ", low, high, buckets[bucket]));
+            for (int i = 0; i < bar; i++) {
+                text.append('#');
+            }
+            text.append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(samples, 0, size);
+            sorted = true;
+        }
+    }
+}
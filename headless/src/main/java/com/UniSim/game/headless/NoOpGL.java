@@ -0,0 +1,71 @@
+package com.UniSim.game.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * NoOpGL stands in for OpenGL on machines without a GPU. Every call does nothing, except for the
+ * few answers libGDX checks while creating its objects: new handles are never 0, shaders compile,
+ * programs link and frame buffers are complete. Textures, shaders, meshes and frame buffers can be
+ * created as normal, so screens can be constructed and stepped; nothing is ever drawn.
+ */
+public final class NoOpGL implements InvocationHandler {
+
+    private static final int MAX_TEXTURE_SIZE = 8192;
+
+    private int handles;
+
+    private NoOpGL() {
+    }
+
+    /**
+     * @return A GL20 whose calls do nothing
+     */
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, new NoOpGL());
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+        String name = method.getName();
+        Class<?> type = method.getReturnType();
+        if (type == int.class && (name.startsWith("glGen") || name.startsWith("glCreate"))) {
+            return ++handles;
+        }
+        switch (name) {
+            case "glCheckFramebufferStatus":
+                return GL20.GL_FRAMEBUFFER_COMPLETE;
+            case "glGetShaderiv":
+            case "glGetProgramiv":
+                int parameter = (Integer) args[1];
+                put((IntBuffer) args[2], parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS ? 1 : 0);
+                return null;
+            case "glGetIntegerv":
+                put((IntBuffer) args[1], (Integer) args[0] == GL20.GL_MAX_TEXTURE_SIZE ? MAX_TEXTURE_SIZE : 0);
+                return null;
+            default:
+                break;
+        }
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == String.class) {
+            return "";
+        }
+        return null;
+    }
+
+    private static void put(IntBuffer buffer, int value) {
+        buffer.put(buffer.position(), value);
+    }
+}
@@ -0,0 +1,157 @@
+package com.UniSim.game.headless;
+
+import com.UniSim.game.Replay.InputLog;
+import com.UniSim.game.Replay.ReplayInput;
+import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.UniSim;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Replays every recorded session in a corpus through the headless game and reports how long each
+ * tick took, as a histogram, along with the memory allocated per tick and per simulated second. The p99 tick time of each
+ * session is compared with a stored baseline, and the run fails if any has grown by more than the
+ * threshold, or if any session no longer replays exactly. A session with no baseline is an error;
+ * baselines are only written, for every session, when run with {@code --update}.
+ * <p>
+ * Each session is replayed once to warm up the JIT before it is measured. Allocations are counted
+ * on the game thread only, so the students' parallel step is not included; it allocates nothing.
+ * Baselines are only meaningful on the machine they were recorded on.
+ * <p>
+ * Usage: {@code ReplayBenchmark <corpusDir> <baseline.properties> [threshold] [--update]}
+ */
+public class ReplayBenchmark {
+
+    private static final int WARMUP_RUNS = 1;
+
+    private ReplayBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayBenchmark <corpusDir> <baseline.properties> [threshold] [--update]");
+            System.exit(1);
+        }
+        File corpus = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double threshold = args.length > 2 && !args[2].startsWith("--") ? Double.parseDouble(args[2]) : 0.2;
+        boolean update = Arrays.asList(args).contains("--update");
+
+        File[] sessions = corpus.listFiles((dir, name) -> name.endsWith(InputLog.EXTENSION));
+        if (sessions == null || sessions.length == 0) {
+            System.err.println("No sessions in " + corpus + "; record some with generateReplayCorpus");
+            System.exit(1);
+        }
+        Arrays.sort(sessions);
+        List<InputLog> logs = new ArrayList<>();
+        for (File session : sessions) {
+            try (InputStream in = new FileInputStream(session)) {
+                logs.add(InputLog.read(in));
+            }
+        }
+
+        Result[] results = new Result[sessions.length];
+        HeadlessGame.run(() -> {
+            UniSim game = HeadlessGame.createGame();
+            for (int i = 0; i < sessions.length; i++) {
+                for (int run = 0; run < WARMUP_RUNS; run++) {
+                    measure(game, logs.get(i));
+                }
+                results[i] = measure(game, logs.get(i));
+            }
+        });
+
+        Properties baseline = new Properties();
+        if (baselineFile.exists()) {
+            try (InputStream in = new FileInputStream(baselineFile)) {
+                baseline.load(in);
+            }
+        } else if (!update) {
+            System.err.println("No baseline at " + baselineFile + "; record one with --update");
+            System.exit(1);
+        }
+        boolean failed = false;
+        System.out.printf("%-32s %8s %10s %10s %10s %10s %12s %10s %10s%n",
+            "session", "ticks", "mean", "p50", "p99", "max", "alloc/tick", "alloc/s", "baseline");
+        for (int i = 0; i < sessions.length; i++) {
+            String name = sessions[i].getName();
+            Result result = results[i];
+            LatencyHistogram ticks = result.ticks;
+            double p99 = ticks.getPercentile(0.99);
+            String stored = baseline.getProperty(name + ".p99");
+            double bytesPerTick = (double) result.allocatedBytes / Math.max(1, ticks.getCount());
+            System.out.printf("%-32s %8d %7.1f us %7.1f us %7.1f us %7.1f us %10.0f B %7.2f MB %7s us%n", name,
+                ticks.getCount(), ticks.getMean(), ticks.getPercentile(0.5), p99, ticks.getMax(), bytesPerTick,
+                bytesPerTick * SimulationClock.TICKS_PER_SECOND / 1e6, stored == null ? "-" : stored);
+            System.out.print(ticks.format());
+
+            if (!result.matched) {
+                System.out.println("  DIVERGED: the session did not replay exactly as recorded");
+                failed = true;
+            }
+            if (update) {
+                baseline.setProperty(name + ".p99", String.format("%.1f", p99));
+            } else if (stored == null) {
+                System.out.println("  NO BASELINE: record one with --update");
+                failed = true;
+            } else if (p99 > Double.parseDouble(stored) * (1 + threshold)) {
+                System.out.printf("  REGRESSED: p99 %.1f us is over %.0f%% above the baseline %s us%n",
+                    p99, threshold * 100, stored);
+                failed = true;
+            }
+        }
+
+        if (update) {
+            File parent = baselineFile.getAbsoluteFile().getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Could not create " + parent);
+            }
+            try (OutputStream out = new FileOutputStream(baselineFile)) {
+                baseline.store(out, "p99 tick time of each replayed session, in microseconds");
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    /**
+     * Replays a session from the start, timing every tick.
+     */
+    private static Result measure(UniSim game, InputLog log) {
+        ReplayInput input = new ReplayInput(log);
+        GameScreen screen = HeadlessGame.createGameScreen(game, input);
+        SimulationClock clock = screen.getClock();
+
+        LatencyHistogram ticks = new LatencyHistogram((int) log.getEndTick());
+        long allocatedBefore = Allocations.current();
+        while (!input.isFinished() && clock.getTick() < log.getEndTick()) {
+            long start = System.nanoTime();
+            clock.step();
+            ticks.record(System.nanoTime() - start);
+        }
+        long allocated = Allocations.current() - allocatedBefore;
+        screen.dispose();
+        return new Result(ticks, allocated, input.matches());
+    }
+
+    private static class Result {
+        final LatencyHistogram ticks;
+        final long allocatedBytes;
+        final boolean matched;
+
+        Result(LatencyHistogram ticks, long allocatedBytes, boolean matched) {
+            this.ticks = ticks;
+            this.allocatedBytes = allocatedBytes;
+            this.matched = matched;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.UniSim.game.headless;
+
+import com.UniSim.game.Buildings.BuildingManager;
+import com.UniSim.game.Replay.InputCommand;
+import com.UniSim.game.Replay.InputLog;
+import com.UniSim.game.Replay.LiveInput;
+import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.UniSim;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.io.File;
+
+/**
+ * Records a corpus of heavy sessions for {@link ReplayBenchmark}. Each session is played by a script
+ * rather than a person: it builds as often as it can afford to, walks to random points across the
+ * map, changes direction and interacts with buildings far more often than a player would, so every
+ * part of the simulation is kept busy for the whole session. Sessions are recorded exactly as a
+ * player's would be, and the script is seeded, so the same corpus is recorded every time.
+ * <p>
+ * Usage: {@code ReplayCorpus <outputDir> [sessions]}
+ */
+public class ReplayCorpus {
+
+    // The chance on each tick of the script giving each kind of command
+    private static final float PLACE_CHANCE = 1 / 30f;
+    private static final float WALK_CHANCE = 1 / 120f;
+    private static final float MOVE_CHANCE = 1 / 20f;
+    private static final float INTERACT_CHANCE = 1 / 15f;
+    private static final float ENTER_CHANCE = 1 / 600f;
+
+    private ReplayCorpus() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayCorpus <outputDir> [sessions]");
+            System.exit(1);
+        }
+        File output = new File(args[0]).getAbsoluteFile();
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        HeadlessGame.run(() -> {
+            UniSim game = HeadlessGame.createGame();
+            for (int i = 0; i < sessions; i++) {
+                File file = new File(output, "heavy-" + i + InputLog.EXTENSION);
+                long start = System.nanoTime();
+                int commands = record(game, i, file);
+                System.out.printf("%s: %d commands, recorded in %.1f s%n",
+                    file.getName(), commands, (System.nanoTime() - start) / 1e9);
+            }
+        });
+        System.exit(0);
+    }
+
+    /**
+     * Plays one scripted session to its end and saves the recording.
+     *
+     * @return The number of commands the session was given
+     */
+    private static int record(UniSim game, long seed, File file) {
+        LiveInput input = new LiveInput(seed, Gdx.files.absolute(file.getPath()));
+        GameScreen screen = HeadlessGame.createGameScreen(game, input);
+        SimulationClock clock = screen.getClock();
+        RandomXS128 random = new RandomXS128(seed);
+        int options = BuildingManager.combineBuildings().size();
+        float width = screen.getMapWidth();
+        float height = screen.getMapHeight();
+
+        while (!input.isFinished()) {
+            if (random.nextFloat() < PLACE_CHANCE) {
+                input.submit(InputCommand.place(random.nextInt(options),
+                    MathUtils.round(random.nextFloat() * width), MathUtils.round(random.nextFloat() * height)));
+            }
+            if (random.nextFloat() < WALK_CHANCE) {
+                input.submit(InputCommand.walk(random.nextFloat() * width, random.nextFloat() * height));
+            }
+            if (random.nextFloat() < MOVE_CHANCE) {
+                // One of the 16 combinations of direction keys, including none
+                input.submit(InputCommand.move(random.nextInt(16)));
+            }
+            int buildings = screen.hud.getStats().getBuildingCounter();
+            if (buildings > 0 && random.nextFloat() < INTERACT_CHANCE) {
+                input.submit(InputCommand.interact(random.nextInt(buildings)));
+            }
+            if (random.nextFloat() < ENTER_CHANCE) {
+                input.submit(InputCommand.enter());
+            }
+            clock.step();
+        }
+        screen.dispose();
+        return input.getLog().size();
+    }
+}
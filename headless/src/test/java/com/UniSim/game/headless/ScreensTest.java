@@ -0,0 +1,205 @@
+package com.UniSim.game.headless;
+
+import com.UniSim.game.GameAssets;
+import com.UniSim.game.PauseMenu;
+import com.UniSim.game.Replay.InputCommand;
+import com.UniSim.game.Replay.LiveInput;
+import com.UniSim.game.Screens.CreditsScreen;
+import com.UniSim.game.Screens.EndScreen;
+import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.Screens.HowToPlayScreen;
+import com.UniSim.game.Screens.LandingScreen;
+import com.UniSim.game.Screens.LoadingScreen;
+import com.UniSim.game.Screens.SettingsScreen;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.Simulation.TimeScale;
+import com.UniSim.game.Stats.Leaderboard;
+import com.UniSim.game.Stats.PlayerStats;
+import com.UniSim.game.UniSim;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Creates, shows and renders every screen of the game headlessly, with {@link NoOpGL} in place of
+ * OpenGL, and plays the game screen to check that what the player does reaches the simulation.
+ */
+public class ScreensTest {
+
+    private static final int FRAMES = 60;
+    // Frames the loading screen may take to load every game asset
+    private static final int MAX_LOADING_FRAMES = 6000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Array<Screen> screens = new Array<>();
+
+    @Before
+    public void useTemporaryLeaderboard() {
+        // The end screen saves its score, which must not reach the leaderboard in the assets folder
+        Leaderboard.setDefaultFile(folder.getRoot().toPath().resolve(Leaderboard.FILE_NAME));
+    }
+
+    @After
+    public void disposeScreens() {
+        // NoOpGL accepts calls from any thread, so screens can be disposed once the game has stopped
+        for (Screen screen : screens) {
+            screen.dispose();
+        }
+        screens.clear();
+        Leaderboard.setDefaultFile(null);
+    }
+
+    @Test
+    public void menuScreensRender() {
+        inGame(game -> {
+            Music music = mutedMusic();
+            LandingScreen landing = new LandingScreen(game);
+            renders(game, landing);
+            renders(game, new HowToPlayScreen(game, landing, music));
+            renders(game, new SettingsScreen(game, landing, music));
+            renders(game, new CreditsScreen(game, landing, music));
+            renders(game, new EndScreen(game, music, new PlayerStats()));
+        });
+    }
+
+    @Test
+    public void pauseMenuScreensRender() {
+        inGame(game -> {
+            Music music = mutedMusic();
+            GameScreen screen = HeadlessGame.createGameScreen(game, new LiveInput(2));
+            PauseMenu pauseMenu = new PauseMenu(screen.getStage(), new Skin(Gdx.files.internal("uiskin.json")),
+                screen, game, music);
+            pauseMenu.togglePause();
+            assertTrue(pauseMenu.isPaused());
+            renders(game, screen);
+            renders(game, new HowToPlayScreen(game, pauseMenu, music));
+            renders(game, new SettingsScreen(game, pauseMenu, music));
+        });
+    }
+
+    @Test
+    public void loadingScreenStartsTheGame() {
+        inGame(game -> {
+            // The loading screen disposes itself when it starts the game, so it is not disposed again
+            game.setScreen(new LoadingScreen(game, mutedMusic()));
+            FrameStepper stepper = new FrameStepper(game);
+            while (!(game.getScreen() instanceof GameScreen) && stepper.getFrames() < MAX_LOADING_FRAMES) {
+                stepper.step();
+            }
+            assertTrue("Still loading after " + stepper.getFrames() + " frames", game.getScreen() instanceof GameScreen);
+            screens.add(game.getScreen());
+            renders(game, game.getScreen());
+        });
+    }
+
+    @Test
+    public void placingBuildingsCostsCurrency() {
+        inGame(game -> {
+            LiveInput input = new LiveInput(0);
+            GameScreen screen = HeadlessGame.createGameScreen(game, input);
+            show(game, screen);
+            PlayerStats stats = screen.hud.getStats();
+            float currency = stats.getCurrency();
+
+            // Open ground between the roads, the reception and the lakes
+            int library = 1;
+            float x = screen.getMapWidth() * 0.34f;
+            input.submit(InputCommand.place(library, x, screen.getMapHeight() * 0.62f));
+            input.submit(InputCommand.place(library, x, screen.getMapHeight() * 0.19f));
+            new FrameStepper(game).run(1);
+
+            assertEquals(2, stats.getBuildingCounter());
+            assertTrue("Currency did not go down", stats.getCurrency() < currency);
+        });
+    }
+
+    @Test
+    public void buildingOnARoadIsRefused() {
+        inGame(game -> {
+            LiveInput input = new LiveInput(1);
+            GameScreen screen = HeadlessGame.createGameScreen(game, input);
+            show(game, screen);
+            PlayerStats stats = screen.hud.getStats();
+            float currency = stats.getCurrency();
+
+            // The road along the top of the map
+            input.submit(InputCommand.place(1, screen.getMapWidth() / 2, screen.getMapHeight() * 0.95f));
+            new FrameStepper(game).run(1);
+
+            assertEquals(0, stats.getBuildingCounter());
+            assertEquals(currency, stats.getCurrency(), 0.001f);
+        });
+    }
+
+    @Test
+    public void fasterTimeScaleRunsMoreTicks() {
+        inGame(game -> {
+            long[] ticks = new long[2];
+            TimeScale[] timeScales = {TimeScale.NORMAL, TimeScale.QUADRUPLE};
+            for (int i = 0; i < timeScales.length; i++) {
+                GameScreen screen = HeadlessGame.createGameScreen(game, new LiveInput(i));
+                show(game, screen);
+                screen.hud.setTimeScale(timeScales[i]);
+                SimulationClock clock = screen.getClock();
+                long start = clock.getTick();
+                new FrameStepper(game).run(2);
+                ticks[i] = clock.getTick() - start;
+            }
+            assertTrue("Normal speed ran no ticks", ticks[0] > 0);
+            assertTrue(ticks[1] + " ticks at 4x against " + ticks[0] + " at 1x", ticks[1] > ticks[0] * 3);
+        });
+    }
+
+    /**
+     * Runs a test on the headless game's thread, reporting its failed assertions as failures.
+     */
+    private static void inGame(Consumer<UniSim> test) {
+        try {
+            HeadlessGame.run(() -> test.accept(HeadlessGame.createGame()));
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof AssertionError) {
+                throw (AssertionError) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Music mutedMusic() {
+        Music music = GameAssets.music(GameAssets.GAME_MUSIC);
+        music.setVolume(0);
+        return music;
+    }
+
+    private void show(UniSim game, Screen screen) {
+        screens.add(screen);
+        game.setScreen(screen);
+    }
+
+    /**
+     * Shows a screen and renders it for a number of frames, checking it is still showing afterwards.
+     */
+    private void renders(UniSim game, Screen screen) {
+        if (!screens.contains(screen, true)) {
+            show(game, screen);
+        }
+        FrameStepper stepper = new FrameStepper(game);
+        stepper.step(FRAMES);
+        assertEquals(FRAMES, stepper.getFrames());
+        assertSame(screen, game.getScreen());
+    }
+}
@@ -2,12 +2,21 @@ package com.UniSim.game.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.UniSim.game.Replay.LiveInput;
 import com.UniSim.game.UniSim;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application.
+ * Start the JVM with {@code -Dunisim.record=true} to save every session to the local replays folder.
+ * It is a system property rather than an argument so it survives the restart on macOS.
+ */
 public class Lwjgl3Launcher {
+
+    private static final String RECORD_PROPERTY = "unisim.record";
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        LiveInput.setRecordSessions(Boolean.getBoolean(RECORD_PROPERTY));
         createApplication();
 
     }
@@ -0,0 +1,83 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that packs loose images from the assets folder into texture atlases, so the
+ * game can draw them from a few large textures instead of binding one texture per image.
+ * <p>
+ * Usage: {@code AssetPacker <assetsDir> <outputDir> <atlas>...}, where each atlas is given as
+ * {@code name:filter:regex}. Every image in the assets folder whose file name matches the regex
+ * is packed into {@code name.atlas}, using the given texture filter (for example {@code Nearest}).
+ * Regions keep the file name of their image, without the extension.
+ */
+public class AssetPacker {
+
+    private AssetPacker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: AssetPacker <assetsDir> <outputDir> <name:filter:regex>...");
+            System.exit(1);
+        }
+        File assetsDir = new File(args[0]);
+        File outputDir = new File(args[1]);
+
+        for (int i = 2; i < args.length; i++) {
+            String[] atlas = args[i].split(":", 3);
+            if (atlas.length != 3) {
+                throw new IllegalArgumentException("Expected name:filter:regex but got " + args[i]);
+            }
+            pack(assetsDir, outputDir, atlas[0], Texture.TextureFilter.valueOf(atlas[1]), Pattern.compile(atlas[2]));
+        }
+    }
+
+    /**
+     * Copies every matching image into a staging folder and packs the folder into one atlas.
+     */
+    private static void pack(File assetsDir, File outputDir, String name, Texture.TextureFilter filter, Pattern images)
+        throws IOException {
+        File staging = Files.createTempDirectory("unisim-" + name).toFile();
+        try {
+            File[] sources = assetsDir.listFiles((dir, file) -> images.matcher(file).matches());
+            if (sources == null || sources.length == 0) {
+                System.err.println("No images match " + images + ", skipping " + name + ".atlas");
+                return;
+            }
+            for (File source : sources) {
+                Files.copy(source.toPath(), new File(staging, source.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            TexturePacker.Settings settings = new TexturePacker.Settings();
+            settings.maxWidth = 4096;
+            settings.maxHeight = 4096;
+            settings.paddingX = 2;
+            settings.paddingY = 2;
+            settings.duplicatePadding = true; // Stops neighbouring regions bleeding into tiles when scaled
+            settings.stripWhitespaceX = false; // Regions must keep the size of the original image
+            settings.stripWhitespaceY = false;
+            settings.rotation = false;
+            settings.useIndexes = false;
+            settings.filterMin = filter;
+            settings.filterMag = filter;
+
+            TexturePacker.process(settings, staging.getPath(), outputDir.getPath(), name);
+            System.out.println("Packed " + sources.length + " images into " + name + ".atlas");
+        } finally {
+            try (Stream<Path> files = Files.walk(staging.toPath())) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
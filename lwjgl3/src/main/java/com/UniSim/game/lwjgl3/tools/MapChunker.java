@@ -0,0 +1,283 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.UniSim.game.Map.ChunkedMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.XmlReader;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Build-time tool that converts a Tiled map into the chunked format read by
+ * {@link com.UniSim.game.Map.ChunkedMap}, so maps far larger than the campus can be streamed in
+ * around the camera instead of being loaded whole.
+ * <p>
+ * Usage: {@code MapChunker <map.tmx> <outputDir> [chunkSize]}
+ * <p>
+ * Tile layers may use CSV or base64 data, optionally zlib or gzip compressed. Objects are stored
+ * in the chunk containing their centre, converted to map pixels counting up from the bottom, and
+ * every object is also written to the index for the map's schema.
+ */
+public class MapChunker {
+
+    private static final int DEFAULT_CHUNK_SIZE = 32;
+
+    private MapChunker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: MapChunker <map.tmx> <outputDir> [chunkSize]");
+            System.exit(1);
+        }
+        File source = new File(args[0]);
+        File outputDir = new File(args[1]);
+        int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+
+        XmlReader.Element root = new XmlReader().parse(new String(Files.readAllBytes(source.toPath()), StandardCharsets.UTF_8));
+        if (root.getIntAttribute("infinite", 0) != 0) {
+            throw new IllegalArgumentException("Infinite maps are not supported: " + source);
+        }
+        int width = root.getIntAttribute("width");
+        int height = root.getIntAttribute("height");
+        int tileWidth = root.getIntAttribute("tilewidth");
+        int tileHeight = root.getIntAttribute("tileheight");
+
+        Array<String> tileLayerNames = new Array<>();
+        Array<int[]> tileLayers = new Array<>();
+        Array<String> objectLayerNames = new Array<>();
+        Array<Array<Rectangle>> objectLayers = new Array<>();
+        for (XmlReader.Element layer : root.getChildrenByName("layer")) {
+            tileLayerNames.add(layer.getAttribute("name"));
+            tileLayers.add(readTiles(layer.getChildByName("data"), width, height));
+        }
+        for (XmlReader.Element group : root.getChildrenByName("objectgroup")) {
+            Array<Rectangle> objects = new Array<>();
+            for (XmlReader.Element object : group.getChildrenByName("object")) {
+                float objectWidth = object.getFloatAttribute("width", 0);
+                float objectHeight = object.getFloatAttribute("height", 0);
+                float x = object.getFloatAttribute("x", 0);
+                float y = height * tileHeight - object.getFloatAttribute("y", 0) - objectHeight;
+                objects.add(new Rectangle(x, y, objectWidth, objectHeight));
+            }
+            objectLayerNames.add(group.getAttribute("name"));
+            objectLayers.add(objects);
+        }
+
+        writeIndex(new File(outputDir, ChunkedMap.INDEX_FILE), width, height, tileWidth, tileHeight, chunkSize,
+            tileLayerNames, objectLayerNames, objectLayers);
+        writeSkeleton(root, source, new File(outputDir, ChunkedMap.SKELETON_FILE), outputDir);
+
+        int chunksX = (width + chunkSize - 1) / chunkSize;
+        int chunksY = (height + chunkSize - 1) / chunkSize;
+
+        // Sort the objects into the chunk containing their centre up front, so each chunk only
+        // writes its own instead of scanning the whole map
+        Array<Array<Rectangle>> chunkObjects = new Array<>(chunksX * chunksY);
+        Array<IntArray> chunkObjectLayers = new Array<>(chunksX * chunksY);
+        for (int i = 0; i < chunksX * chunksY; i++) {
+            chunkObjects.add(new Array<>());
+            chunkObjectLayers.add(new IntArray());
+        }
+        float chunkPixelWidth = chunkSize * tileWidth;
+        float chunkPixelHeight = chunkSize * tileHeight;
+        for (int layer = 0; layer < objectLayers.size; layer++) {
+            for (Rectangle object : objectLayers.get(layer)) {
+                int chunkX = (int) ((object.x + object.width / 2) / chunkPixelWidth);
+                int chunkY = (int) ((object.y + object.height / 2) / chunkPixelHeight);
+                if (chunkX < 0 || chunkX >= chunksX || chunkY < 0 || chunkY >= chunksY) {
+                    continue;
+                }
+                chunkObjects.get(chunkY * chunksX + chunkX).add(object);
+                chunkObjectLayers.get(chunkY * chunksX + chunkX).add(layer);
+            }
+        }
+
+        int written = 0;
+        for (int chunkY = 0; chunkY < chunksY; chunkY++) {
+            for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                int chunk = chunkY * chunksX + chunkX;
+                if (writeChunk(outputDir, chunkX, chunkY, chunkSize, width, height, tileLayers,
+                    chunkObjects.get(chunk), chunkObjectLayers.get(chunk))) {
+                    written++;
+                }
+            }
+        }
+        System.out.println("Wrote " + written + " of " + chunksX * chunksY + " chunks of " + source.getName());
+    }
+
+    /**
+     * Reads the tile ids of a layer, top row first as stored by Tiled.
+     */
+    private static int[] readTiles(XmlReader.Element data, int width, int height) throws IOException {
+        int[] ids = new int[width * height];
+        String encoding = data.getAttribute("encoding", null);
+        if ("csv".equals(encoding)) {
+            String[] values = data.getText().trim().split("\\s*,\\s*");
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = (int) Long.parseLong(values[i].trim());
+            }
+        } else if ("base64".equals(encoding)) {
+            byte[] bytes = Base64Coder.decode(data.getText().trim());
+            String compression = data.getAttribute("compression", null);
+            InputStream stream = new ByteArrayInputStream(bytes);
+            if ("zlib".equals(compression)) {
+                stream = new InflaterInputStream(stream);
+            } else if ("gzip".equals(compression)) {
+                stream = new GZIPInputStream(stream);
+            } else if (compression != null) {
+                throw new IllegalArgumentException("Unsupported layer compression: " + compression);
+            }
+            try (DataInputStream in = new DataInputStream(stream)) {
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = Integer.reverseBytes(in.readInt()); // Tile ids are stored little-endian
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported layer encoding: " + encoding);
+        }
+        return ids;
+    }
+
+    private static void writeIndex(File file, int width, int height, int tileWidth, int tileHeight, int chunkSize,
+                                   Array<String> tileLayers, Array<String> objectLayers,
+                                   Array<Array<Rectangle>> objects) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(ChunkedMap.MAGIC);
+            out.writeInt(ChunkedMap.VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(tileWidth);
+            out.writeInt(tileHeight);
+            out.writeInt(chunkSize);
+            out.writeInt(tileLayers.size);
+            for (String name : tileLayers) {
+                out.writeUTF(name);
+            }
+            out.writeInt(objectLayers.size);
+            for (String name : objectLayers) {
+                out.writeUTF(name);
+            }
+            for (Array<Rectangle> layer : objects) {
+                out.writeInt(layer.size);
+                for (Rectangle object : layer) {
+                    out.writeFloat(object.x);
+                    out.writeFloat(object.y);
+                    out.writeFloat(object.width);
+                    out.writeFloat(object.height);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a copy of the map with every layer emptied. It keeps the tilesets, pointing back at the
+     * original tileset files, and the layer order and settings, but none of the map data.
+     */
+    private static void writeSkeleton(XmlReader.Element root, File source, File file, File outputDir) throws IOException {
+        for (XmlReader.Element tileset : root.getChildrenByName("tileset")) {
+            String tilesetSource = tileset.getAttribute("source", null);
+            if (tilesetSource != null) {
+                File original = new File(source.getAbsoluteFile().getParentFile(), tilesetSource);
+                tileset.setAttribute("source", relativePath(outputDir, original));
+            }
+        }
+        for (int i = 0; i < root.getChildCount(); i++) {
+            XmlReader.Element child = root.getChild(i);
+            if (child.getName().equals("layer")) {
+                // The tmx loader needs tile data, so each layer keeps a single empty cell
+                child.setAttribute("width", "1");
+                child.setAttribute("height", "1");
+                XmlReader.Element data = child.getChildByName("data");
+                data.getAttributes().remove("compression");
+                data.setAttribute("encoding", "csv");
+                data.setText("0");
+            } else if (child.getName().equals("objectgroup")) {
+                while (child.getChildCount() > 0) {
+                    child.removeChild(0);
+                }
+            }
+        }
+
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write(root.toString());
+        }
+    }
+
+    private static String relativePath(File from, File to) {
+        return from.getAbsoluteFile().toPath().normalize().relativize(to.getAbsoluteFile().toPath().normalize())
+            .toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Writes one chunk, skipping chunks with no tiles or objects in them.
+     *
+     * @param objects The objects whose centre lies in the chunk
+     * @param layers The object layer of each of those objects
+     * @return true if the chunk was written
+     */
+    private static boolean writeChunk(File outputDir, int chunkX, int chunkY, int chunkSize, int width, int height,
+                                      Array<int[]> tileLayers, Array<Rectangle> objects, IntArray layers) throws IOException {
+        int[][] tiles = new int[tileLayers.size][chunkSize * chunkSize];
+        boolean empty = true;
+        for (int layer = 0; layer < tileLayers.size; layer++) {
+            int[] ids = tileLayers.get(layer);
+            for (int row = 0; row < chunkSize; row++) {
+                for (int column = 0; column < chunkSize; column++) {
+                    int x = chunkX * chunkSize + column;
+                    int y = chunkY * chunkSize + row;
+                    if (x >= width || y >= height) {
+                        continue;
+                    }
+                    // Tiled stores rows from the top, chunks count rows from the bottom
+                    int id = ids[(height - 1 - y) * width + x];
+                    tiles[layer][row * chunkSize + column] = id;
+                    empty &= id == 0;
+                }
+            }
+        }
+
+        if (empty && objects.isEmpty()) {
+            return false;
+        }
+
+        File file = new File(outputDir, ChunkedMap.chunkFileName(chunkX, chunkY));
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(file))))) {
+            for (int[] layer : tiles) {
+                for (int id : layer) {
+                    out.writeInt(id);
+                }
+            }
+            out.writeInt(objects.size);
+            for (int i = 0; i < objects.size; i++) {
+                Rectangle object = objects.get(i);
+                out.writeShort(layers.get(i));
+                out.writeFloat(object.x);
+                out.writeFloat(object.y);
+                out.writeFloat(object.width);
+                out.writeFloat(object.height);
+            }
+        }
+        return true;
+    }
+}
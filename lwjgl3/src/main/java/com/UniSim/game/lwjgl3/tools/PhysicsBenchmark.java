@@ -0,0 +1,114 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.UniSim.game.Physics.PhysicsConfig;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Measures the cost of {@code world.step} against the number of placed buildings, with and without
+ * body sleeping, for an idle player and a moving one. The campus is laid out like the game's:
+ * a 100x50 unit map with one static body per building and a single dynamic player body.
+ * <p>
+ * Usage: {@code PhysicsBenchmark [buildingCount]...}
+ */
+public class PhysicsBenchmark {
+
+    private static final int[] DEFAULT_BUILDING_COUNTS = {0, 10, 100, 1000, 5000};
+    private static final int WARMUP_STEPS = 600;
+    private static final int MEASURED_STEPS = 3000;
+    private static final float MAP_WIDTH = 100;
+    private static final float MAP_HEIGHT = 50;
+
+    private PhysicsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Box2D.init();
+        int[] buildingCounts = DEFAULT_BUILDING_COUNTS;
+        if (args.length > 0) {
+            buildingCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                buildingCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        PhysicsConfig awake = new PhysicsConfig(PhysicsConfig.TIME_STEP, PhysicsConfig.VELOCITY_ITERATIONS,
+            PhysicsConfig.POSITION_ITERATIONS, false);
+        System.out.printf("%10s %16s %16s %16s %16s%n", "buildings",
+            "idle, no sleep", "idle, sleep", "moving, no sleep", "moving, sleep");
+        for (int buildings : buildingCounts) {
+            System.out.printf("%10d %13.2f us %13.2f us %13.2f us %13.2f us%n", buildings,
+                measure(awake, buildings, false), measure(PhysicsConfig.DEFAULT, buildings, false),
+                measure(awake, buildings, true), measure(PhysicsConfig.DEFAULT, buildings, true));
+        }
+    }
+
+    /**
+     * @return The mean time of one step, in microseconds
+     */
+    private static double measure(PhysicsConfig config, int buildings, boolean moving) {
+        World world = config.createWorld();
+        try {
+            createBuildings(world, buildings);
+            Body player = createPlayer(world);
+
+            for (int i = 0; i < WARMUP_STEPS; i++) {
+                step(config, world, player, moving, i);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_STEPS; i++) {
+                step(config, world, player, moving, i);
+            }
+            return (System.nanoTime() - start) / 1000.0 / MEASURED_STEPS;
+        } finally {
+            world.dispose();
+        }
+    }
+
+    private static void step(PhysicsConfig config, World world, Body player, boolean moving, int step) {
+        // Walk back and forth across the map every few seconds, as the game sets the velocity every frame
+        float speed = moving ? ((step / 300) % 2 == 0 ? 10 : -10) : 0;
+        player.setLinearVelocity(speed, 0);
+        config.step(world);
+    }
+
+    private static void createBuildings(World world, int count) {
+        BodyDef bdef = new BodyDef();
+        bdef.type = BodyDef.BodyType.StaticBody;
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fdef = new FixtureDef();
+        fdef.shape = shape;
+
+        // Spread the buildings evenly over the map, shrinking them so they never overlap
+        int columns = (int) Math.ceil(Math.sqrt(count * MAP_WIDTH / MAP_HEIGHT));
+        int rows = columns == 0 ? 0 : (int) Math.ceil((double) count / columns);
+        float cellWidth = columns == 0 ? 0 : MAP_WIDTH / columns;
+        float cellHeight = rows == 0 ? 0 : MAP_HEIGHT / rows;
+        shape.setAsBox(Math.max(cellWidth * 0.4f, 0.01f), Math.max(cellHeight * 0.4f, 0.01f));
+        for (int i = 0; i < count; i++) {
+            bdef.position.set((i % columns + 0.5f) * cellWidth, (i / columns + 0.5f) * cellHeight);
+            world.createBody(bdef).createFixture(fdef);
+        }
+        shape.dispose();
+    }
+
+    private static Body createPlayer(World world) {
+        BodyDef bdef = new BodyDef();
+        bdef.type = BodyDef.BodyType.DynamicBody;
+        bdef.fixedRotation = true;
+        bdef.position.set(MAP_WIDTH / 2, MAP_HEIGHT / 2);
+        Body player = world.createBody(bdef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(14 / 2f / 16, 18 / 2f / 16);
+        FixtureDef fdef = new FixtureDef();
+        fdef.shape = shape;
+        player.createFixture(fdef);
+        shape.dispose();
+        return player;
+    }
+}
@@ -0,0 +1,78 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.UniSim.game.GameAssets;
+import com.UniSim.game.Replay.InputLog;
+import com.UniSim.game.Replay.ReplayInput;
+import com.UniSim.game.Screens.GameScreen;
+import com.UniSim.game.UniSim;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replays a session recorded by {@link com.UniSim.game.Replay.LiveInput} as fast as possible, in a
+ * hidden window, and checks it ends exactly as it did when it was recorded. Exits with status 1 if
+ * the replay went differently.
+ * <p>
+ * Usage: {@code ReplayPlayer <session.replay>}
+ */
+public class ReplayPlayer {
+
+    private static boolean matched;
+
+    private ReplayPlayer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayPlayer <session.replay>");
+            System.exit(1);
+        }
+        InputLog log;
+        try (InputStream in = new FileInputStream(args[0])) {
+            log = InputLog.read(in);
+        }
+
+        Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
+        configuration.setTitle("UniSim replay");
+        configuration.setInitialVisible(false);
+        new Lwjgl3Application(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                matched = replay(log);
+                Gdx.app.exit();
+            }
+        }, configuration);
+        System.exit(matched ? 0 : 1);
+    }
+
+    private static boolean replay(InputLog log) {
+        UniSim game = new UniSim();
+        game.batch = new SpriteBatch();
+        Music music = GameAssets.music(GameAssets.GAME_MUSIC);
+        music.setVolume(0);
+        ReplayInput input = new ReplayInput(log);
+        GameScreen screen = new GameScreen(game, music, input);
+
+        long start = System.nanoTime();
+        boolean same = input.play(screen.getClock());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Replayed %d commands over %d ticks in %.3f s (%.0f ticks/s)%n", log.size(),
+            screen.getClock().getTick(), seconds, screen.getClock().getTick() / seconds);
+        if (same) {
+            System.out.printf("Ended on tick %d with hash %016x, as recorded%n", input.getEndTick(), input.getChecksum());
+        } else {
+            System.out.printf("Diverged: ended on tick %d with hash %016x, recorded tick %d with hash %016x%n",
+                input.getEndTick(), input.getChecksum(), log.getEndTick(), log.getChecksum());
+        }
+        return same;
+    }
+}
@@ -0,0 +1,118 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.UniSim.game.Buildings.Occupancy;
+import com.UniSim.game.Pathfinding.OccupancyGrid;
+import com.UniSim.game.Pathfinding.PathfindingService;
+import com.UniSim.game.Simulation.SimulationClock;
+import com.UniSim.game.Students.Destinations;
+import com.UniSim.game.Students.StudentSimulation;
+import com.UniSim.game.Students.StudentStore;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Stress test for the student simulation. Fills a campus the size of the game's map with buildings
+ * of every type, moves the given numbers of students in and measures how long updating all of
+ * them takes each simulation tick. Students are stepped across every core once there are enough of them.
+ * Drawing is not measured, since it needs a window.
+ * <p>
+ * Usage: {@code StudentBenchmark [studentCount]...}
+ */
+public class StudentBenchmark {
+
+    private static final int[] DEFAULT_STUDENT_COUNTS = {1000, 5000, 10000};
+    private static final int WARMUP_TICKS = 600;
+    private static final int MEASURED_TICKS = 1800;
+    private static final int MAP_WIDTH = 100;
+    private static final int MAP_HEIGHT = 50;
+    private static final int BUILDINGS_PER_TYPE = 4;
+    private static final float BUILDING_SIZE = 4;
+
+    private StudentBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] studentCounts = DEFAULT_STUDENT_COUNTS;
+        if (args.length > 0) {
+            studentCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                studentCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%10s %12s %12s %12s %12s%n", "students", "mean", "p99", "walking", "waiting");
+        for (int students : studentCounts) {
+            measure(students);
+        }
+    }
+
+    private static void measure(int count) {
+        PathfindingService pathfinding = new PathfindingService(new OccupancyGrid(MAP_WIDTH, MAP_HEIGHT, 1));
+        SimulationClock clock = new SimulationClock(count);
+        StudentSimulation simulation = new StudentSimulation(pathfinding, clock, 1, 1);
+        IntArray accommodations = createBuildings(pathfinding, simulation, count);
+        for (int i = 0; i < count; i++) {
+            simulation.spawn(accommodations.get(i % accommodations.size));
+        }
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            clock.step();
+        }
+        long[] times = new long[MEASURED_TICKS];
+        long walking = 0;
+        long waiting = 0;
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            long start = System.nanoTime();
+            clock.step();
+            times[i] = System.nanoTime() - start;
+            walking += count(simulation, StudentStore.WALKING);
+            waiting += count(simulation, StudentStore.WAITING);
+        }
+
+        Arrays.sort(times);
+        double mean = Arrays.stream(times).average().orElse(0) / 1e6;
+        double p99 = times[(int) (MEASURED_TICKS * 0.99)] / 1e6;
+        System.out.printf("%10d %9.3f ms %9.3f ms %12d %12d%n", count, mean, p99,
+            walking / MEASURED_TICKS, waiting / MEASURED_TICKS);
+    }
+
+    /**
+     * Spreads the buildings over the map in a grid, every type appearing in each row. Each holds
+     * an equal share of the students, so queues only form where students bunch up.
+     *
+     * @return The building numbers of the accommodations
+     */
+    private static IntArray createBuildings(PathfindingService pathfinding, StudentSimulation simulation, int students) {
+        IntArray accommodations = new IntArray();
+        int capacity = students / BUILDINGS_PER_TYPE;
+        int columns = Destinations.TYPES.length * 2;
+        float cellWidth = (float) MAP_WIDTH / columns;
+        float cellHeight = (float) MAP_HEIGHT * 2 / BUILDINGS_PER_TYPE;
+        for (int i = 0; i < Destinations.TYPES.length * BUILDINGS_PER_TYPE; i++) {
+            int column = i % columns;
+            int row = i / columns;
+            Rectangle bounds = new Rectangle(column * cellWidth + (cellWidth - BUILDING_SIZE) / 2,
+                row * cellHeight + (cellHeight - BUILDING_SIZE) / 2, BUILDING_SIZE, BUILDING_SIZE);
+            pathfinding.blockArea(bounds, OccupancyGrid.BUILDING);
+            int type = i % Destinations.TYPES.length;
+            int building = simulation.addDestination(type, bounds, new Occupancy(capacity));
+            if (type == Destinations.ACCOMMODATION) {
+                accommodations.add(building);
+            }
+        }
+        return accommodations;
+    }
+
+    private static int count(StudentSimulation simulation, int state) {
+        StudentStore store = simulation.getStore();
+        int students = 0;
+        for (int i = 0; i < store.getCount(); i++) {
+            if (store.getState(i) == state) {
+                students++;
+            }
+        }
+        return students;
+    }
+}
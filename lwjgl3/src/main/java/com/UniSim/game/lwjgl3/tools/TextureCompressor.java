@@ -0,0 +1,269 @@
+package com.UniSim.game.lwjgl3.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build-time tool that converts large background images into GPU-compressed KTX textures with a full
+ * mipmap chain. Two variants are written for every image:
+ * <ul>
+ *     <li>{@code name.dxt1.ktx} - S3TC DXT1, supported natively by desktop GPUs.</li>
+ *     <li>{@code name.etc1.ktx} - ETC1, supported by mobile GPUs and readable as ETC2 RGB8.</li>
+ * </ul>
+ * Both formats use 4 bits per pixel, an eighth of the memory of the uncompressed RGBA8888 upload.
+ * The game picks whichever variant the GPU supports and falls back to the original image otherwise.
+ * <p>
+ * Usage: {@code TextureCompressor <assetsDir> <outputDir> <image>...}
+ */
+public class TextureCompressor {
+
+    // KTX constants, see https://registry.khronos.org/KTX/specs/1.0/ktxspec.v1.html
+    private static final byte[] KTX_IDENTIFIER = {
+        (byte) 0xAB, 0x4B, 0x54, 0x58, 0x20, 0x31, 0x31, (byte) 0xBB, 0x0D, 0x0A, 0x1A, 0x0A
+    };
+    private static final int KTX_ENDIANNESS = 0x04030201;
+    private static final int GL_RGB = 0x1907;
+    private static final int GL_COMPRESSED_RGB_S3TC_DXT1_EXT = 0x83F0;
+    private static final int GL_ETC1_RGB8_OES = 0x8D64;
+
+    private TextureCompressor() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: TextureCompressor <assetsDir> <outputDir> <image>...");
+            System.exit(1);
+        }
+        GdxNativesLoader.load();
+
+        File assetsDir = new File(args[0]);
+        File outputDir = new File(args[1]);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+
+        for (int i = 2; i < args.length; i++) {
+            File source = new File(assetsDir, args[i]);
+            if (!source.exists()) {
+                System.err.println("Skipping missing image: " + source);
+                continue;
+            }
+            String name = new FileHandle(source).nameWithoutExtension();
+            File dxt1 = new File(outputDir, name + ".dxt1.ktx");
+            File etc1 = new File(outputDir, name + ".etc1.ktx");
+            if (dxt1.lastModified() > source.lastModified() && etc1.lastModified() > source.lastModified()) {
+                continue;
+            }
+
+            List<Pixmap> levels = buildMipmaps(new Pixmap(new FileHandle(source)));
+            try {
+                writeKtx(dxt1, GL_COMPRESSED_RGB_S3TC_DXT1_EXT, levels, true);
+                writeKtx(etc1, GL_ETC1_RGB8_OES, levels, false);
+                System.out.println("Compressed " + source.getName() + " (" + levels.size() + " mipmap levels)");
+            } finally {
+                for (Pixmap level : levels) {
+                    level.dispose();
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the full mipmap chain of an image, down to 1x1, in RGB888.
+     *
+     * @param source The full size image, which is disposed
+     * @return Every mipmap level, largest first
+     */
+    private static List<Pixmap> buildMipmaps(Pixmap source) {
+        List<Pixmap> levels = new ArrayList<>();
+        Pixmap level = new Pixmap(source.getWidth(), source.getHeight(), Pixmap.Format.RGB888);
+        level.setBlending(Pixmap.Blending.None);
+        level.drawPixmap(source, 0, 0);
+        source.dispose();
+        levels.add(level);
+
+        while (level.getWidth() > 1 || level.getHeight() > 1) {
+            int width = Math.max(1, level.getWidth() / 2);
+            int height = Math.max(1, level.getHeight() / 2);
+            Pixmap smaller = new Pixmap(width, height, Pixmap.Format.RGB888);
+            smaller.setBlending(Pixmap.Blending.None);
+            smaller.setFilter(Pixmap.Filter.BiLinear);
+            smaller.drawPixmap(level, 0, 0, level.getWidth(), level.getHeight(), 0, 0, width, height);
+            levels.add(smaller);
+            level = smaller;
+        }
+        return levels;
+    }
+
+    private static void writeKtx(File file, int internalFormat, List<Pixmap> levels, boolean dxt1) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.write(KTX_IDENTIFIER);
+            writeInt(out, KTX_ENDIANNESS);
+            writeInt(out, 0);                 // glType, 0 for compressed data
+            writeInt(out, 1);                 // glTypeSize
+            writeInt(out, 0);                 // glFormat, 0 for compressed data
+            writeInt(out, internalFormat);    // glInternalFormat
+            writeInt(out, GL_RGB);            // glBaseInternalFormat
+            writeInt(out, levels.get(0).getWidth());
+            writeInt(out, levels.get(0).getHeight());
+            writeInt(out, 0);                 // pixelDepth
+            writeInt(out, 0);                 // numberOfArrayElements
+            writeInt(out, 1);                 // numberOfFaces
+            writeInt(out, levels.size());     // numberOfMipmapLevels
+            writeInt(out, 0);                 // bytesOfKeyValueData
+
+            for (Pixmap level : levels) {
+                byte[] data = dxt1 ? encodeDxt1(level) : encodeEtc1(level);
+                writeInt(out, data.length);
+                out.write(data);              // Block sizes are multiples of 8, so no padding is needed
+            }
+        }
+    }
+
+    private static void writeInt(DataOutputStream out, int value) throws IOException {
+        out.writeInt(Integer.reverseBytes(value)); // KTX files are written little-endian
+    }
+
+    private static byte[] encodeEtc1(Pixmap level) {
+        ETC1.ETC1Data etc1 = ETC1.encodeImage(level);
+        try {
+            byte[] data = new byte[blockCount(level) * 8];
+            ByteBuffer compressed = etc1.compressedData;
+            compressed.position(etc1.dataOffset);
+            compressed.get(data);
+            return data;
+        } finally {
+            etc1.dispose();
+        }
+    }
+
+    private static int blockCount(Pixmap level) {
+        return ((level.getWidth() + 3) / 4) * ((level.getHeight() + 3) / 4);
+    }
+
+    /**
+     * Encodes an image as DXT1 using a range fit: each 4x4 block is approximated by the line
+     * between the corners of its colour bounding box, oriented along the block's main colour axis.
+     *
+     * @param level The RGB888 image to encode
+     * @return The DXT1 blocks, row by row
+     */
+    private static byte[] encodeDxt1(Pixmap level) {
+        int width = level.getWidth();
+        int height = level.getHeight();
+        byte[] data = new byte[blockCount(level) * 8];
+        int[] r = new int[16];
+        int[] g = new int[16];
+        int[] b = new int[16];
+        int offset = 0;
+
+        for (int blockY = 0; blockY < height; blockY += 4) {
+            for (int blockX = 0; blockX < width; blockX += 4) {
+                for (int i = 0; i < 16; i++) {
+                    int x = Math.min(blockX + (i & 3), width - 1);
+                    int y = Math.min(blockY + (i >> 2), height - 1);
+                    int rgba = level.getPixel(x, y);
+                    r[i] = (rgba >>> 24) & 0xFF;
+                    g[i] = (rgba >>> 16) & 0xFF;
+                    b[i] = (rgba >>> 8) & 0xFF;
+                }
+                encodeDxt1Block(r, g, b, data, offset);
+                offset += 8;
+            }
+        }
+        return data;
+    }
+
+    private static void encodeDxt1Block(int[] r, int[] g, int[] b, byte[] out, int offset) {
+        int minR = 255, minG = 255, minB = 255, maxR = 0, maxG = 0, maxB = 0;
+        int sumR = 0, sumG = 0, sumB = 0;
+        for (int i = 0; i < 16; i++) {
+            minR = Math.min(minR, r[i]); maxR = Math.max(maxR, r[i]);
+            minG = Math.min(minG, g[i]); maxG = Math.max(maxG, g[i]);
+            minB = Math.min(minB, b[i]); maxB = Math.max(maxB, b[i]);
+            sumR += r[i]; sumG += g[i]; sumB += b[i];
+        }
+
+        // Flip the red and blue extents when they run against green, so the endpoints lie on the block's colour axis
+        int covRG = 0, covBG = 0;
+        for (int i = 0; i < 16; i++) {
+            int dg = g[i] * 16 - sumG;
+            covRG += (r[i] * 16 - sumR) * dg;
+            covBG += (b[i] * 16 - sumB) * dg;
+        }
+        if (covRG < 0) {
+            int swap = minR; minR = maxR; maxR = swap;
+        }
+        if (covBG < 0) {
+            int swap = minB; minB = maxB; maxB = swap;
+        }
+
+        int color0 = to565(maxR, maxG, maxB);
+        int color1 = to565(minR, minG, minB);
+        if (color0 < color1) {
+            int swap = color0; color0 = color1; color1 = swap;
+        }
+
+        int indices = 0;
+        if (color0 != color1) {
+            int[] paletteR = new int[4];
+            int[] paletteG = new int[4];
+            int[] paletteB = new int[4];
+            expand565(color0, paletteR, paletteG, paletteB, 0);
+            expand565(color1, paletteR, paletteG, paletteB, 1);
+            for (int c = 0; c < 2; c++) {
+                paletteR[2 + c] = ((2 - c) * paletteR[0] + (1 + c) * paletteR[1]) / 3;
+                paletteG[2 + c] = ((2 - c) * paletteG[0] + (1 + c) * paletteG[1]) / 3;
+                paletteB[2 + c] = ((2 - c) * paletteB[0] + (1 + c) * paletteB[1]) / 3;
+            }
+            for (int i = 0; i < 16; i++) {
+                int best = 0;
+                int bestError = Integer.MAX_VALUE;
+                for (int p = 0; p < 4; p++) {
+                    int dr = r[i] - paletteR[p];
+                    int dg = g[i] - paletteG[p];
+                    int db = b[i] - paletteB[p];
+                    int error = dr * dr + dg * dg + db * db;
+                    if (error < bestError) {
+                        bestError = error;
+                        best = p;
+                    }
+                }
+                indices |= best << (i * 2);
+            }
+        }
+
+        out[offset] = (byte) color0;
+        out[offset + 1] = (byte) (color0 >>> 8);
+        out[offset + 2] = (byte) color1;
+        out[offset + 3] = (byte) (color1 >>> 8);
+        out[offset + 4] = (byte) indices;
+        out[offset + 5] = (byte) (indices >>> 8);
+        out[offset + 6] = (byte) (indices >>> 16);
+        out[offset + 7] = (byte) (indices >>> 24);
+    }
+
+    private static int to565(int r, int g, int b) {
+        return ((r * 31 + 127) / 255) << 11 | ((g * 63 + 127) / 255) << 5 | ((b * 31 + 127) / 255);
+    }
+
+    private static void expand565(int color, int[] r, int[] g, int[] b, int index) {
+        int r5 = (color >>> 11) & 0x1F;
+        int g6 = (color >>> 5) & 0x3F;
+        int b5 = color & 0x1F;
+        r[index] = (r5 << 3) | (r5 >>> 2);
+        g[index] = (g6 << 2) | (g6 >>> 4);
+        b[index] = (b5 << 3) | (b5 >>> 2);
+    }
+}